@@ -0,0 +1,71 @@
+package com.gwtt.jobblog.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.gwtt.jobblog.util.AccessTokenClaims;
+import com.gwtt.jobblog.util.HashUtil;
+import com.gwtt.jobblog.util.IssuedRefreshToken;
+import com.gwtt.jobblog.util.JwtProvider;
+import com.gwtt.jobblog.util.RefreshTokenClaims;
+
+// 요청마다 실행되는 토큰 발급/검증과 refresh token 해시 경로
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthBenchmarks {
+
+    private JwtProvider jwtProvider;
+    private HashUtil hashUtil;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider("jobblog-bench",
+            "bench-access-secret-key-0123456789abcdef", "bench-refresh-secret-key-0123456789abcdef");
+        hashUtil = new HashUtil("bench-salt");
+        accessToken = jwtProvider.createAccessToken(1L, 0);
+        refreshToken = jwtProvider.createRefreshToken(1L, 0, 1).getToken();
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtProvider.createAccessToken(1L, 0);
+    }
+
+    @Benchmark
+    public IssuedRefreshToken createRefreshToken() {
+        return jwtProvider.createRefreshToken(1L, 0, 1);
+    }
+
+    // JwtAuthInterceptor 가 요청마다 호출하는 경로
+    @Benchmark
+    public AccessTokenClaims verifyAccessToken() {
+        return jwtProvider.verifyAccessToken(accessToken);
+    }
+
+    // 토큰 갱신(RefreshTokenCoalescer, GoogleOAuthService)과 로그아웃이 호출하는 경로
+    @Benchmark
+    public RefreshTokenClaims verifyRefreshToken() {
+        return jwtProvider.verifyRefreshToken(refreshToken);
+    }
+
+    // 비교 기준: 서비스 코드에서는 쓰지 않는다. 클레임을 꺼내지 않는 검증만의 비용을 verifyAccessToken 과 비교한다.
+    @Benchmark
+    public boolean isValidAccessTokenBaseline() {
+        return jwtProvider.isValidAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public String hashRefreshToken() {
+        return hashUtil.hash(refreshToken);
+    }
+}
@@ -0,0 +1,95 @@
+package com.gwtt.jobblog.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.gwtt.jobblog.domain.JobPost;
+import com.gwtt.jobblog.domain.JobStatus;
+import com.gwtt.jobblog.domain.Provider;
+import com.gwtt.jobblog.domain.User;
+import com.gwtt.jobblog.dto.JobPostResponseDto;
+import com.gwtt.jobblog.dto.JobPostSimpleResponseDto;
+
+// 엔티티 -> DTO 매핑과 목록 응답 직렬화. rows 별로 할당량(gc 프로파일러)을 함께 본다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JobPostDtoBenchmarks {
+
+    @Param({"10", "100", "1000"})
+    private int rows;
+
+    private List<JobPost> jobPosts;
+    private List<JobPostResponseDto> responses;
+    private List<JobPostSimpleResponseDto> simpleResponses;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder()
+            .id(1L)
+            .email("bench@example.com")
+            .name("bench")
+            .provider(Provider.GOOGLE)
+            .providerId("bench")
+            .build();
+
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+        jobPosts = new ArrayList<>(rows);
+        for (long i = 1; i <= rows; i++) {
+            jobPosts.add(JobPost.builder()
+                .id(i)
+                .companyName("Company " + i)
+                .title("Backend Engineer " + i)
+                .description("Spring Boot, JPA, MySQL 기반 서비스 개발. ".repeat(8))
+                .applyUrl("https://careers.example.com/jobs/" + i)
+                .closingDateTime(base.plusDays(i % 30))
+                .status(JobStatus.values()[(int) (i % JobStatus.values().length)])
+                .user(user)
+                .createdAt(base.plusHours(i))
+                .updatedAt(base.plusHours(i + 1))
+                .build());
+        }
+        responses = jobPosts.stream().map(JobPostResponseDto::of).toList();
+        simpleResponses = jobPosts.stream().map(JobPostSimpleResponseDto::of).toList();
+
+        // Spring Boot 기본 설정과 같은 ObjectMapper(JavaTimeModule, ISO-8601 날짜)
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writer();
+    }
+
+    @Benchmark
+    public List<JobPostResponseDto> mapResponseDtos() {
+        return jobPosts.stream().map(JobPostResponseDto::of).toList();
+    }
+
+    @Benchmark
+    public List<JobPostSimpleResponseDto> mapSimpleResponseDtos() {
+        return jobPosts.stream().map(JobPostSimpleResponseDto::of).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeResponseDtos() throws JsonProcessingException {
+        return writer.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] serializeSimpleResponseDtos() throws JsonProcessingException {
+        return writer.writeValueAsBytes(simpleResponses);
+    }
+}
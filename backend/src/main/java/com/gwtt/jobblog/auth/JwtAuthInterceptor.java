@@ -1,5 +1,6 @@
 package com.gwtt.jobblog.auth;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
@@ -10,7 +11,8 @@ import org.springframework.web.servlet.HandlerInterceptor;
 
 import com.gwtt.jobblog.annotations.LoginRequired;
 import com.gwtt.jobblog.domain.User;
-import com.gwtt.jobblog.repository.UserRepository;  
+import com.gwtt.jobblog.exceptions.UnauthorizedException;
+import com.gwtt.jobblog.util.AccessTokenClaims;
 import com.gwtt.jobblog.util.JwtProvider;
 
 import lombok.RequiredArgsConstructor;
@@ -18,12 +20,13 @@ import lombok.RequiredArgsConstructor;
 @Component
 @RequiredArgsConstructor
 public class JwtAuthInterceptor implements HandlerInterceptor {
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
     private final JwtProvider jwtProvider;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        if (!(handler instanceof HandlerMethod)) {
+        // SSE 같은 비동기 응답의 재디스패치는 최초 요청에서 이미 인증했다.
+        if (!(handler instanceof HandlerMethod) || request.getDispatcherType() == DispatcherType.ASYNC) {
             return true;
         }
 
@@ -44,15 +47,20 @@ public class JwtAuthInterceptor implements HandlerInterceptor {
 
         String token = authHeader.substring(7);
 
-        if (!jwtProvider.isValidAccessToken(token)) {
+        AccessTokenClaims claims;
+        try {
+            claims = jwtProvider.verifyAccessToken(token);
+        } catch (UnauthorizedException e) {
             response.sendError(HttpStatus.UNAUTHORIZED.value(), "로그인이 필요합니다.");
             return false;
         }
 
-        Long userId = Long.parseLong(jwtProvider.getUserIdFromToken(token));
+        User user = principalCache.get(claims.getUserId(), claims.getUserVersion()).orElse(null);
 
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        if (user == null) {
+            response.sendError(HttpStatus.UNAUTHORIZED.value(), "로그인이 필요합니다.");
+            return false;
+        }
 
         request.setAttribute("user", user);
         return true;
@@ -0,0 +1,100 @@
+package com.gwtt.jobblog.auth;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gwtt.jobblog.datasource.ReplicaLagGuard;
+import com.gwtt.jobblog.domain.User;
+import com.gwtt.jobblog.repository.UserRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Component
+public class PrincipalCache implements MeterBinder {
+    private final UserRepository userRepository;
+    private final ReplicaLagGuard replicaLagGuard;
+    private final Cache<Long, User> cache;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public PrincipalCache(UserRepository userRepository,
+                          ReplicaLagGuard replicaLagGuard,
+                          @Value("${auth.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${auth.principal-cache.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.replicaLagGuard = replicaLagGuard;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    // 토큰의 uver 와 캐시된 tokenVersion 이 같을 때만 캐시를 사용하고, 다르면 DB 에서 다시 읽는다.
+    public Optional<User> get(Long userId, int tokenVersion) {
+        User cached = cache.getIfPresent(userId);
+        if (cached != null && cached.getTokenVersion() == tokenVersion) {
+            hitCount.increment();
+            return Optional.of(cached);
+        }
+
+        missCount.increment();
+        Optional<User> user = userRepository.findById(userId);
+        if (user.isEmpty() || user.get().getTokenVersion() != tokenVersion) {
+            // 읽기 전용 조회는 replica 로 갈 수 있으므로, 방금 가입했거나 버전이 바뀐 사용자는 primary 에서 다시 확인한다.
+            user = replicaLagGuard.onPrimary(() -> userRepository.findById(userId));
+        }
+        user.ifPresentOrElse(u -> cache.put(userId, u), () -> cache.invalidate(userId));
+
+        return user.filter(u -> u.getTokenVersion() == tokenVersion);
+    }
+
+    // 커밋 전에 다른 요청이 이전 버전을 다시 캐시할 수 있으므로 커밋 이후에도 한 번 더 제거한다.
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.principal.cache.requests", this, PrincipalCache::getHitCount)
+            .tag("result", "hit")
+            .register(registry);
+        FunctionCounter.builder("auth.principal.cache.requests", this, PrincipalCache::getMissCount)
+            .tag("result", "miss")
+            .register(registry);
+        Gauge.builder("auth.principal.cache.size", this, PrincipalCache::size)
+            .register(registry);
+    }
+}
@@ -0,0 +1,62 @@
+package com.gwtt.jobblog.config;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.gwtt.jobblog.util.QueryCounter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 요청마다 실행된 SQL 문 수를 http.server.requests.queries 로 기록하고, 기준을 넘으면 경고 로그를 남긴다(N+1 탐지).
+@Slf4j
+@Component
+public class QueryCountFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+
+    public QueryCountFilter(MeterRegistry meterRegistry,
+                            @Value("${query-count.warn-threshold:10}") int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.Counts counts = QueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCounter.stop(counts);
+            record(request, counts);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryCounter.Counts counts) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("http.server.requests.queries")
+            .tag("method", request.getMethod())
+            .tag("uri", uri)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry)
+            .record(counts.getTotalCount());
+
+        if (counts.getTotalCount() > warnThreshold) {
+            log.warn("{} {} executed {} SQL statements: {}", request.getMethod(), uri, counts.getTotalCount(), counts);
+        }
+    }
+}
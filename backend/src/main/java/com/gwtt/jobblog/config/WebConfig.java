@@ -27,7 +27,7 @@ public class WebConfig implements WebMvcConfigurer {
             public void addCorsMappings(CorsRegistry registry) {
                 registry.addMapping("/**")
                     .allowedOrigins(allowedOrigin)
-                    .allowedMethods("GET", "POST", "PUT", "DELETE")
+                    .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE")
                     .allowedHeaders("*")
                     .allowCredentials(true);
             }
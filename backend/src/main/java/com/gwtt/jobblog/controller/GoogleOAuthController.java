@@ -14,6 +14,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 
 import com.gwtt.jobblog.service.GoogleOAuthService;
+import com.gwtt.jobblog.service.RefreshTokenCoalescer;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 public class GoogleOAuthController {
 
     private final GoogleOAuthService googleOAuthService;
+    private final RefreshTokenCoalescer refreshTokenCoalescer;
 
     @Value("${client.redirect-uri}")
     private String clientRedirectUri;
@@ -48,7 +50,7 @@ public class GoogleOAuthController {
            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Refresh token required");
         }
 
-        Map<String, String> tokens = googleOAuthService.refreshToken(refreshToken);
+        Map<String, String> tokens = refreshTokenCoalescer.refresh(refreshToken);
 
         return ResponseEntity.ok()
             .header(HttpHeaders.SET_COOKIE, "refreshToken=" + tokens.get("refreshToken") + "; HttpOnly;"
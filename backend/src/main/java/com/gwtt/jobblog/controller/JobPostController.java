@@ -1,11 +1,20 @@
 package com.gwtt.jobblog.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -14,14 +23,31 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.gwtt.jobblog.annotations.LoginRequired;
 import com.gwtt.jobblog.domain.User;
+import com.gwtt.jobblog.dto.CursorPageResponseDto;
+import com.gwtt.jobblog.dto.JobPostBulkImportResponseDto;
+import com.gwtt.jobblog.dto.JobPostCollectionVersion;
+import com.gwtt.jobblog.dto.JobPostExportFormat;
 import com.gwtt.jobblog.dto.JobPostRequestDto;
-import com.gwtt.jobblog.dto.JobPostResponseDto;
 import com.gwtt.jobblog.dto.JobPostSimpleResponseDto;
+import com.gwtt.jobblog.dto.JobPostStatsResponseDto;
+import com.gwtt.jobblog.dto.JobPostStatusUpdateRequestDto;
+import com.gwtt.jobblog.dto.JobPostStatusUpdateResponseDto;
 import com.gwtt.jobblog.exceptions.InvalidArgumentException;
+import com.gwtt.jobblog.service.JobPostBulkImportService;
+import com.gwtt.jobblog.service.JobPostCollectionVersionCache;
+import com.gwtt.jobblog.service.JobPostEventBroadcaster;
+import com.gwtt.jobblog.service.JobPostExportService;
+import com.gwtt.jobblog.service.JobPostResponseCache;
+import com.gwtt.jobblog.service.JobPostResponseCache.CachedJobPost;
 import com.gwtt.jobblog.service.JobPostService;
+import com.gwtt.jobblog.service.JobPostStatsCounter;
+import com.gwtt.jobblog.util.ETags;
 
 import lombok.RequiredArgsConstructor;
 
@@ -30,7 +56,15 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class JobPostController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final JobPostService jobPostService;
+    private final JobPostBulkImportService jobPostBulkImportService;
+    private final JobPostExportService jobPostExportService;
+    private final JobPostResponseCache jobPostResponseCache;
+    private final JobPostStatsCounter jobPostStatsCounter;
+    private final JobPostCollectionVersionCache jobPostCollectionVersionCache;
+    private final JobPostEventBroadcaster jobPostEventBroadcaster;
 
     @PostMapping
     @LoginRequired
@@ -38,25 +72,127 @@ public class JobPostController {
         return ResponseEntity.ok(jobPostService.createJobPost(jobPostRequest, user));
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @LoginRequired
+    public ResponseEntity<JobPostBulkImportResponseDto> importJobPosts(InputStream body, @RequestAttribute("user") User user) throws IOException {
+        return ResponseEntity.ok(jobPostBulkImportService.importJson(body, user));
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @LoginRequired
+    public ResponseEntity<JobPostBulkImportResponseDto> importJobPostsNdjson(InputStream body, @RequestAttribute("user") User user) throws IOException {
+        return ResponseEntity.ok(jobPostBulkImportService.importNdjson(body, user));
+    }
+
+    // 캐시에 없을 때도 클라이언트가 가진 버전과 같으면 updatedAt 만 조회하고 304 로 응답한다.
     @GetMapping("/{id}")
-    public ResponseEntity<JobPostResponseDto> getJobPost(@PathVariable Long id) {
-        return ResponseEntity.ok(jobPostService.getJobPost(id));
+    public ResponseEntity<byte[]> getJobPost(@PathVariable Long id, WebRequest webRequest) {
+        CachedJobPost jobPost = jobPostResponseCache.getIfPresent(id);
+
+        if (jobPost == null) {
+            Optional<LocalDateTime> version = jobPostService.getJobPostVersion(id);
+            if (version.isPresent()
+                && webRequest.checkNotModified(ETags.forJobPost(id, version.get()), ETags.toEpochMilli(version.get()))) {
+                return null;
+            }
+            jobPost = jobPostResponseCache.get(id);
+        } else if (webRequest.checkNotModified(jobPost.getETag(), jobPost.getLastModified())) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .cacheControl(CacheControl.noCache())
+            .eTag(jobPost.getETag());
+        if (jobPost.getLastModified() >= 0) {
+            response.lastModified(jobPost.getLastModified());
+        }
+        return response.body(jobPost.getBody());
     }
 
     @GetMapping("/my")
     @LoginRequired
-    public ResponseEntity<List<JobPostSimpleResponseDto>> getMyJobPosts(@RequestAttribute("user") User user) {
-        return ResponseEntity.ok(jobPostService.getJobPostsByUser(user.getId()));
+    public ResponseEntity<CursorPageResponseDto<JobPostSimpleResponseDto>> getMyJobPosts(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int limit, @RequestAttribute("user") User user, WebRequest webRequest) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidArgumentException("limit 은 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        JobPostCollectionVersion version = jobPostCollectionVersionCache.get(user.getId());
+        String eTag = ETags.forCollection("my", user.getId(), version, cursor, limit);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .eTag(eTag)
+            .body(jobPostService.getJobPostsByUser(user.getId(), cursor, limit));
     }
 
     @GetMapping("/search")
     @LoginRequired
-    public ResponseEntity<List<JobPostSimpleResponseDto>> searchJobPosts(@RequestParam(required = false) LocalDate from, @RequestParam(required = false) LocalDate to, @RequestAttribute("user") User user) {
+    public ResponseEntity<List<JobPostSimpleResponseDto>> searchJobPosts(@RequestParam(required = false) LocalDate from, @RequestParam(required = false) LocalDate to, @RequestAttribute("user") User user, WebRequest webRequest) {
         if (from == null && to == null) {
             throw new InvalidArgumentException("from/to 중 하나 이상은 필수입니다.");
         }
 
-        return ResponseEntity.ok(jobPostService.searchJobPosts(from, to, user));
+        JobPostCollectionVersion version = jobPostCollectionVersionCache.get(user.getId());
+        String eTag = ETags.forCollection("search", user.getId(), version, from, to);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .eTag(eTag)
+            .body(jobPostService.searchJobPosts(from, to, user));
+    }
+
+    @GetMapping("/stats")
+    @LoginRequired
+    public ResponseEntity<JobPostStatsResponseDto> getJobPostStats(@RequestAttribute("user") User user) {
+        return ResponseEntity.ok(jobPostStatsCounter.getStats(user.getId()));
+    }
+
+    // 다른 탭이나 기기에서의 변경을 목록 재조회 대신 SSE 로 받는다. resync 이벤트를 받으면 목록을 다시 읽어야 한다.
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @LoginRequired
+    public ResponseEntity<SseEmitter> subscribeJobPostEvents(@RequestAttribute("user") User user) {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noStore())
+            // 프록시(nginx)가 이벤트를 모아 보내지 않도록 한다.
+            .header("X-Accel-Buffering", "no")
+            .body(jobPostEventBroadcaster.subscribe(user.getId()));
+    }
+
+    @GetMapping("/search/text")
+    @LoginRequired
+    public ResponseEntity<List<JobPostSimpleResponseDto>> searchJobPostsByText(@RequestParam(required = false) String q, @RequestParam(defaultValue = "20") int limit, @RequestAttribute("user") User user) {
+        if (q == null || q.isBlank()) {
+            throw new InvalidArgumentException("검색어(q)는 필수입니다.");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidArgumentException("limit 은 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        return ResponseEntity.ok(jobPostService.searchJobPostsByText(q, limit, user));
+    }
+
+    @GetMapping("/export")
+    @LoginRequired
+    public ResponseEntity<StreamingResponseBody> exportJobPosts(@RequestParam(defaultValue = "csv") String format, @RequestAttribute("user") User user) {
+        JobPostExportFormat exportFormat = JobPostExportFormat.from(format);
+        Long userId = user.getId();
+
+        StreamingResponseBody body = out -> jobPostExportService.export(userId, exportFormat, out);
+
+        return ResponseEntity.ok()
+            .contentType(exportFormat.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("job-posts." + exportFormat.getExtension())
+                .build()
+                .toString())
+            .body(body);
     }
 
     @PutMapping("/{id}")
@@ -66,6 +202,13 @@ public class JobPostController {
         return ResponseEntity.noContent().build();
     }
 
+    // 여러 공고의 상태를 한 번에 바꾸고 실제로 바뀐 id 를 돌려준다.
+    @PatchMapping("/status")
+    @LoginRequired
+    public ResponseEntity<JobPostStatusUpdateResponseDto> updateJobPostStatus(@RequestBody JobPostStatusUpdateRequestDto request, @RequestAttribute("user") User user) {
+        return ResponseEntity.ok(jobPostService.updateJobPostStatus(request, user));
+    }
+
     @DeleteMapping("/{id}")
     @LoginRequired
     public ResponseEntity<Void> deleteJobPost(@PathVariable Long id, @RequestAttribute("user") User user) {
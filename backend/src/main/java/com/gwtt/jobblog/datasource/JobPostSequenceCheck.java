@@ -0,0 +1,44 @@
+package com.gwtt.jobblog.datasource;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.gwtt.jobblog.domain.JobPost;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// job_post.id 는 IDENTITY 에서 SEQUENCE(job_post_seq)로 바뀌었다. MySQL 에서는 Hibernate 가 job_post_seq 테이블의 next_val 로 시퀀스를 흉내 내는데,
+// 기존 데이터가 있는 DB 에 이 테이블이 새로 만들어지면 1 부터 발급해 기존 id 와 충돌한다.
+// 기동 시 next_val 이 MAX(job_post.id) 이하이면 할당 구간 하나만큼 위로 올린다. 시퀀스 테이블이 없는 DB(실제 시퀀스를 쓰는 H2 등)는 건너뛴다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobPostSequenceCheck implements SmartInitializingSingleton {
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Long nextVal;
+        try {
+            nextVal = jdbcTemplate.queryForObject("SELECT next_val FROM job_post_seq", Long.class);
+        } catch (DataAccessException e) {
+            log.debug("job_post_seq table not found, skipping sequence check", e);
+            return;
+        }
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM job_post", Long.class);
+        if (maxId == null || (nextVal != null && nextVal > maxId)) {
+            return;
+        }
+
+        // pooled 옵티마이저가 next_val 을 구간의 시작과 끝 어느 쪽으로 읽어도 기존 id 보다 크도록 한 구간을 더 띄운다.
+        long seeded = maxId + JobPost.ID_ALLOCATION_SIZE + 1;
+        int updated = jdbcTemplate.update("UPDATE job_post_seq SET next_val = ? WHERE next_val <= ?", seeded, maxId);
+        if (updated > 0) {
+            log.warn("job_post_seq.next_val ({}) was not above MAX(job_post.id) ({}), raised to {}", nextVal, maxId, seeded);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.gwtt.jobblog.datasource;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gwtt.jobblog.event.JobPostChangedEvent;
+import com.gwtt.jobblog.event.JobPostsStatusChangedEvent;
+
+// 복제 지연 동안 자신이 쓴 내용을 읽을 수 있도록(read-your-writes) 최근에 쓴 사용자와 공고를 기억한다.
+// 라우팅 데이터소스는 이 사용자의 읽기 전용 트랜잭션과 onPrimary 안의 조회를 primary 로 보낸다.
+@Component
+public class ReplicaLagGuard {
+    private final Cache<Long, Boolean> recentWriters;
+    private final Cache<Long, Boolean> recentJobPosts;
+    private final ThreadLocal<Boolean> forcePrimary = new ThreadLocal<>();
+
+    public ReplicaLagGuard(@Value("${datasource.replica.max-lag:5s}") Duration maxLag) {
+        this.recentWriters = Caffeine.newBuilder()
+            .expireAfterWrite(maxLag)
+            .maximumSize(100_000)
+            .build();
+        this.recentJobPosts = Caffeine.newBuilder()
+            .expireAfterWrite(maxLag)
+            .maximumSize(100_000)
+            .build();
+    }
+
+    public boolean isRecentWriter(Long userId) {
+        return recentWriters.getIfPresent(userId) != null;
+    }
+
+    public boolean isRecentlyWritten(Long jobPostId) {
+        return recentJobPosts.getIfPresent(jobPostId) != null;
+    }
+
+    // 트랜잭션이 시작되기 전에 호출해야 한다. 이미 커넥션을 얻은 트랜잭션 안에서는 효과가 없다.
+    public <T> T onPrimary(Supplier<T> supplier) {
+        Boolean previous = forcePrimary.get();
+        forcePrimary.set(Boolean.TRUE);
+        try {
+            return supplier.get();
+        } finally {
+            if (previous == null) {
+                forcePrimary.remove();
+            } else {
+                forcePrimary.set(previous);
+            }
+        }
+    }
+
+    public boolean isPrimaryForced() {
+        return forcePrimary.get() != null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostChanged(JobPostChangedEvent event) {
+        recentWriters.put(event.getUserId(), Boolean.TRUE);
+        recentJobPosts.put(event.getJobPost().getId(), Boolean.TRUE);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostsStatusChanged(JobPostsStatusChangedEvent event) {
+        recentWriters.put(event.getUserId(), Boolean.TRUE);
+        event.getIds().forEach(id -> recentJobPosts.put(id, Boolean.TRUE));
+    }
+}
@@ -0,0 +1,37 @@
+package com.gwtt.jobblog.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.gwtt.jobblog.domain.User;
+
+// 읽기 전용 트랜잭션은 replica, 나머지는 primary 로 보낸다.
+// LazyConnectionDataSourceProxy 로 감싸서 트랜잭션의 readOnly 가 정해진 뒤 첫 SQL 시점에 커넥션을 고르게 한다.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    public enum Route { PRIMARY, REPLICA }
+
+    private final ReplicaLagGuard replicaLagGuard;
+
+    public ReplicaRoutingDataSource(ReplicaLagGuard replicaLagGuard) {
+        this.replicaLagGuard = replicaLagGuard;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || replicaLagGuard.isPrimaryForced()) {
+            return Route.PRIMARY;
+        }
+
+        // 방금 쓴 사용자의 요청은 복제 지연 동안 primary 에서 읽는다.
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+            && attributes.getAttribute("user", RequestAttributes.SCOPE_REQUEST) instanceof User user
+            && replicaLagGuard.isRecentWriter(user.getId())) {
+            return Route.PRIMARY;
+        }
+
+        return Route.REPLICA;
+    }
+}
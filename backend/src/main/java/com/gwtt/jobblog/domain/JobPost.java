@@ -1,5 +1,6 @@
 package com.gwtt.jobblog.domain;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -8,7 +9,13 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -27,10 +34,22 @@ import lombok.AllArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(indexes = {
+    @Index(name = "idx_job_post_user_created_at_id", columnList = "user_id, created_at, id"),
+    @Index(name = "idx_job_post_user_updated_at", columnList = "user_id, updated_at"),
+    @Index(name = "idx_job_post_status_closing_date_time", columnList = "status, closing_date_time")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class JobPost {
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // IDENTITY 는 insert 배치를 막으므로 pooled 옵티마이저를 쓰는 시퀀스(MySQL 에서는 job_post_seq 테이블)를 사용한다.
+    // 기존 DB 의 시작 값은 JobPostSequenceCheck 가 기동 시 MAX(id) 위로 맞춘다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_post_seq")
+    @SequenceGenerator(name = "job_post_seq", sequenceName = "job_post_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(length = 128)
@@ -58,7 +77,22 @@ public class JobPost {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    // 마지막으로 APPLIED 로 바뀐 시각. 다른 상태로 바뀌어도 지우지 않는다.
+    // 일괄 상태 변경은 JobPostRepository.updateStatusByIdInAndUserId 에서 같은 규칙으로 넣는다.
+    private LocalDateTime appliedAt;
+
+    @PrePersist
+    void initAppliedAt() {
+        if (status == JobStatus.APPLIED && appliedAt == null) {
+            appliedAt = LocalDateTime.now();
+        }
+    }
+
     public void update(JobPostRequestDto jobPostRequest) {
+        if (jobPostRequest.getStatus() == JobStatus.APPLIED && this.status != JobStatus.APPLIED) {
+            this.appliedAt = LocalDateTime.now();
+        }
+
         this.companyName = jobPostRequest.getCompanyName();
         this.title = jobPostRequest.getTitle();
         this.description = jobPostRequest.getDescription();
@@ -13,9 +13,17 @@ import lombok.NoArgsConstructor;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 
 @Entity
+@Table(uniqueConstraints = {
+    @UniqueConstraint(name = "uk_refresh_token_jti", columnNames = "jti")
+}, indexes = {
+    @Index(name = "idx_refresh_token_expiry_date", columnList = "expiry_date")
+})
 @Getter
 @Builder
 @AllArgsConstructor
@@ -6,6 +6,12 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import jakarta.persistence.EntityListeners;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -19,6 +25,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 @Builder
 @Getter
 @NoArgsConstructor
@@ -35,9 +44,11 @@ public class User {
     @Column(nullable = false)
     private String name;
 
+    @NaturalId
     @Enumerated(EnumType.STRING)
     private Provider provider;
 
+    @NaturalId
     @Column(nullable = false)
     private String providerId;
 
@@ -0,0 +1,14 @@
+package com.gwtt.jobblog.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CursorPageResponseDto<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
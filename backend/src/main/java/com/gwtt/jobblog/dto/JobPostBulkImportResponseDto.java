@@ -0,0 +1,17 @@
+package com.gwtt.jobblog.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class JobPostBulkImportResponseDto {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<JobPostBulkImportRowResultDto> results;
+}
@@ -0,0 +1,26 @@
+package com.gwtt.jobblog.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class JobPostBulkImportRowResultDto {
+    private int index;
+    private Long id;
+    private String error;
+
+    public static JobPostBulkImportRowResultDto success(int index, Long id) {
+        return JobPostBulkImportRowResultDto.builder()
+            .index(index)
+            .id(id)
+            .build();
+    }
+
+    public static JobPostBulkImportRowResultDto failure(int index, String error) {
+        return JobPostBulkImportRowResultDto.builder()
+            .index(index)
+            .error(error)
+            .build();
+    }
+}
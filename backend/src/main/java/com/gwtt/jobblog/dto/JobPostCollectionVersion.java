@@ -0,0 +1,14 @@
+package com.gwtt.jobblog.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 사용자 공고 목록의 버전. 생성/삭제는 count 를, 수정은 lastModifiedAt 을 바꾼다.
+@Getter
+@AllArgsConstructor
+public class JobPostCollectionVersion {
+    private Long count;
+    private LocalDateTime lastModifiedAt;
+}
@@ -0,0 +1,36 @@
+package com.gwtt.jobblog.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.gwtt.jobblog.exceptions.InvalidArgumentException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// (createdAt, id) 키셋 커서. 클라이언트에는 base64url 문자열로만 노출한다.
+@Getter
+@AllArgsConstructor
+public class JobPostCursor {
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public String encode() {
+        String raw = createdAt + "_" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static JobPostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('_');
+            return new JobPostCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.gwtt.jobblog.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.gwtt.jobblog.domain.JobStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// GET /job-posts/events 로 보내는 변경 알림
+@Getter
+@Builder
+@AllArgsConstructor
+public class JobPostEventDto {
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        STATUS_CHANGED
+    }
+
+    private Type type;
+    private List<Long> ids;
+
+    // CREATED, UPDATED 일 때 바뀐 공고
+    private JobPostSimpleResponseDto jobPost;
+
+    // STATUS_CHANGED 일 때 바뀐 상태와 시각
+    private JobStatus status;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,13 @@
+package com.gwtt.jobblog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 만료 배치 한 번의 결과. candidates 는 조회한 대상 수, expired 는 그중 실제로 EXPIRED 로 바뀐 수다.
+// 조회 이후 사용자가 먼저 바꾼 공고는 candidates 에만 포함된다.
+@Getter
+@AllArgsConstructor
+public class JobPostExpiryResult {
+    private int candidates;
+    private int expired;
+}
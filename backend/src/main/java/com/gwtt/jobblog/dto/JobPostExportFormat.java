@@ -0,0 +1,29 @@
+package com.gwtt.jobblog.dto;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.MediaType;
+
+import com.gwtt.jobblog.exceptions.InvalidArgumentException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum JobPostExportFormat {
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public static JobPostExportFormat from(String format) {
+        for (JobPostExportFormat value : values()) {
+            if (value.name().equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new InvalidArgumentException("format 은 csv 또는 ndjson 이어야 합니다.");
+    }
+}
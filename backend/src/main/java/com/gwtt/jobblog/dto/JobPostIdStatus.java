@@ -0,0 +1,9 @@
+package com.gwtt.jobblog.dto;
+
+import com.gwtt.jobblog.domain.JobStatus;
+
+// 공고 id 와 현재 상태 프로젝션
+public interface JobPostIdStatus {
+    Long getId();
+    JobStatus getStatus();
+}
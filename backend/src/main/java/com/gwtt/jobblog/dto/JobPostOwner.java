@@ -0,0 +1,7 @@
+package com.gwtt.jobblog.dto;
+
+// 공고 id 와 작성자 id 프로젝션
+public interface JobPostOwner {
+    Long getId();
+    Long getUserId();
+}
@@ -0,0 +1,23 @@
+package com.gwtt.jobblog.dto;
+
+import java.time.LocalDateTime;
+
+import com.gwtt.jobblog.domain.JobPost;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 마감 알림에 필요한 컬럼만 담는다. JPQL 생성자 표현식에서 사용하므로 필드 순서를 바꾸지 않는다.
+@Getter
+@AllArgsConstructor
+public class JobPostReminderTarget {
+    private Long id;
+    private Long userId;
+    private String companyName;
+    private String title;
+    private LocalDateTime closingDateTime;
+
+    public static JobPostReminderTarget of(Long userId, JobPost jobPost) {
+        return new JobPostReminderTarget(jobPost.getId(), userId, jobPost.getCompanyName(), jobPost.getTitle(), jobPost.getClosingDateTime());
+    }
+}
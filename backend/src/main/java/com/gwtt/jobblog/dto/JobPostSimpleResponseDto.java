@@ -5,11 +5,14 @@ import java.time.LocalDateTime;
 import com.gwtt.jobblog.domain.JobPost;
 import com.gwtt.jobblog.domain.JobStatus;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+// JPQL 생성자 표현식(SELECT new ...)에서 사용하므로 필드 순서를 바꾸지 않는다.
 @Getter
 @Builder
+@AllArgsConstructor
 public class JobPostSimpleResponseDto {
     private Long id;
 
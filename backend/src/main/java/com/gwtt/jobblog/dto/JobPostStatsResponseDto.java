@@ -0,0 +1,23 @@
+package com.gwtt.jobblog.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class JobPostStatsResponseDto {
+    private long saved;
+    private long applied;
+    private long interviewed;
+    private long rejected;
+    private long expired;
+    private long total;
+
+    // 현재 APPLIED 이면서 이번 주(weekStart 이후)에 마지막으로 수정된 공고 수
+    private long appliedThisWeek;
+    private LocalDateTime weekStart;
+}
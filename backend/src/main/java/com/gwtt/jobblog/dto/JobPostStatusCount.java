@@ -0,0 +1,16 @@
+package com.gwtt.jobblog.dto;
+
+import com.gwtt.jobblog.domain.JobStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 상태별 GROUP BY 결과. JPQL 생성자 표현식에서 사용하므로 필드 순서를 바꾸지 않는다.
+@Getter
+@AllArgsConstructor
+public class JobPostStatusCount {
+    private JobStatus status;
+    private Long count;
+    // appliedAt 이 기준 시각 이후인 공고 수
+    private Long appliedSinceCount;
+}
@@ -0,0 +1,15 @@
+package com.gwtt.jobblog.dto;
+
+import java.util.List;
+
+import com.gwtt.jobblog.domain.JobStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class JobPostStatusUpdateRequestDto {
+    private List<Long> ids;
+    private JobStatus status;
+}
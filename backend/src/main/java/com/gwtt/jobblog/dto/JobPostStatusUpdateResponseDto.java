@@ -0,0 +1,18 @@
+package com.gwtt.jobblog.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.gwtt.jobblog.domain.JobStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class JobPostStatusUpdateResponseDto {
+    // 실제로 상태가 바뀐 공고 id. 없는 공고, 다른 사용자의 공고, 이미 같은 상태인 공고는 빠진다.
+    private List<Long> updatedIds;
+    private JobStatus status;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,10 @@
+package com.gwtt.jobblog.dto;
+
+// 전문 검색 인덱스 재구축용 프로젝션
+public interface JobPostTextSource {
+    Long getId();
+    Long getUserId();
+    String getCompanyName();
+    String getTitle();
+    String getDescription();
+}
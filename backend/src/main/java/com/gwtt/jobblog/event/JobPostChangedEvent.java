@@ -0,0 +1,31 @@
+package com.gwtt.jobblog.event;
+
+import java.time.LocalDateTime;
+
+import com.gwtt.jobblog.domain.JobPost;
+import com.gwtt.jobblog.domain.JobStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// JobPostService 의 생성/수정/삭제 이후 발행된다. 인덱스, 캐시 등은 이 이벤트로 갱신한다.
+@Getter
+@AllArgsConstructor
+public class JobPostChangedEvent {
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long userId;
+    private final JobPost jobPost;
+    // UPDATED 일 때 수정 전 값. 생성/삭제는 null 이다.
+    private final JobStatus previousStatus;
+    private final LocalDateTime previousAppliedAt;
+
+    public JobPostChangedEvent(Type type, Long userId, JobPost jobPost) {
+        this(type, userId, jobPost, null, null);
+    }
+}
@@ -0,0 +1,25 @@
+package com.gwtt.jobblog.event;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+import com.gwtt.jobblog.domain.JobStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 한 사용자의 여러 공고 상태를 UPDATE 한 번으로 바꾼 뒤 발행된다. 엔티티를 읽지 않으므로 바뀐 값만 담는다.
+@Getter
+@AllArgsConstructor
+public class JobPostsStatusChangedEvent {
+    private final Long userId;
+    // 실제로 바뀐 공고 id 와 바뀌기 전 상태
+    private final Map<Long, JobStatus> previousStatuses;
+    private final JobStatus status;
+    private final LocalDateTime updatedAt;
+
+    public Set<Long> getIds() {
+        return previousStatuses.keySet();
+    }
+}
@@ -0,0 +1,13 @@
+package com.gwtt.jobblog.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 로그아웃(jti 하나) 또는 사용자 전체 토큰 무효화(jti 없음) 뒤에 발행된다.
+@Getter
+@AllArgsConstructor
+public class RefreshTokensRevokedEvent {
+    private final Long userId;
+    // null 이면 사용자의 모든 refresh token 이 폐기되었다.
+    private final String jti;
+}
@@ -0,0 +1,19 @@
+package com.gwtt.jobblog.reminder;
+
+import java.time.LocalDateTime;
+
+import com.gwtt.jobblog.dto.JobPostReminderTarget;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ClosingReminder {
+    private final ReminderKind kind;
+    private final JobPostReminderTarget jobPost;
+
+    public LocalDateTime getFireAt() {
+        return jobPost.getClosingDateTime().minus(kind.getBeforeClosing());
+    }
+}
@@ -0,0 +1,241 @@
+package com.gwtt.jobblog.reminder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.gwtt.jobblog.domain.JobPost;
+import com.gwtt.jobblog.domain.JobStatus;
+import com.gwtt.jobblog.dto.JobPostReminderTarget;
+import com.gwtt.jobblog.event.JobPostChangedEvent;
+import com.gwtt.jobblog.event.JobPostsStatusChangedEvent;
+import com.gwtt.jobblog.repository.JobPostRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+// SAVED 상태 공고의 마감 알림(24시간 전, 1시간 전)을 타이밍 휠로 예약한다.
+// 공고마다 다음 알림 하나만 휠에 두고, 알림이 나가면 같은 공고의 다음 알림을 예약한다.
+// 시작 시 앞으로 horizon 안에 마감하는 공고를 closing_date_time 범위로 읽고, 이후에는 refresh 마다 늘어난 구간만 읽는다.
+// 그 사이의 생성/수정/삭제와 일괄 상태 변경은 이벤트로 반영하므로 전체 테이블을 주기적으로 훑지 않는다.
+// 애플리케이션이 내려가 있는 동안 지난 알림은 다시 보내지 않는다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reminder.enabled", havingValue = "true", matchIfMissing = true)
+public class ClosingReminderScheduler implements MeterBinder, DisposableBean {
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 4;
+
+    private final JobPostRepository jobPostRepository;
+    private final ObjectProvider<ReminderSink> sinks;
+    private final Duration tick;
+    private final Duration horizon;
+    private final Duration refresh;
+    private final ScheduledExecutorService executor;
+
+    // 휠과 loadedUntil 을 보호한다. 범위 적재 중에 커밋된 변경은 적재가 끝난 뒤 반영되어 오래된 값이 덮어쓰지 않는다.
+    private final ReentrantLock lock = new ReentrantLock();
+    private final HierarchicalTimingWheel<Long, ClosingReminder> wheel;
+    private LocalDateTime loadedUntil;
+
+    private final Map<ReminderKind, Counter> sentCounters = new EnumMap<>(ReminderKind.class);
+
+    public ClosingReminderScheduler(JobPostRepository jobPostRepository,
+                                    ObjectProvider<ReminderSink> sinks,
+                                    @Value("${reminder.tick:1s}") Duration tick,
+                                    @Value("${reminder.horizon:7d}") Duration horizon,
+                                    @Value("${reminder.horizon-refresh:1h}") Duration refresh) {
+        // 늘어난 구간을 읽기 전에 24시간 전 알림 시각이 지나 버리지 않아야 한다.
+        if (horizon.compareTo(ReminderKind.CLOSING_IN_24H.getBeforeClosing().plus(refresh)) < 0) {
+            throw new IllegalArgumentException("reminder.horizon must be at least 24h + reminder.horizon-refresh");
+        }
+        this.jobPostRepository = jobPostRepository;
+        this.sinks = sinks;
+        this.tick = tick;
+        this.horizon = horizon;
+        this.refresh = refresh;
+        // 1초 틱이면 64^4 틱(약 194일)까지 한 바퀴 안에 담긴다.
+        this.wheel = new HierarchicalTimingWheel<>(tick.toMillis(), WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+        this.loadedUntil = LocalDateTime.now();
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "closing-reminder");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleWithFixedDelay(this::extendHorizon, 0, refresh.toMillis(), TimeUnit.MILLISECONDS);
+        executor.scheduleAtFixedRate(this::tick, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostChanged(JobPostChangedEvent event) {
+        JobPost jobPost = event.getJobPost();
+
+        lock.lock();
+        try {
+            // 아직 적재하지 않은 구간의 공고는 horizon 이 늘어날 때 읽힌다.
+            if (event.getType() == JobPostChangedEvent.Type.DELETED
+                || jobPost.getStatus() != JobStatus.SAVED
+                || jobPost.getClosingDateTime() == null
+                || jobPost.getClosingDateTime().isAfter(loadedUntil)) {
+                wheel.cancel(jobPost.getId());
+            } else {
+                schedule(JobPostReminderTarget.of(event.getUserId(), jobPost), 0, LocalDateTime.now());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostsStatusChanged(JobPostsStatusChangedEvent event) {
+        lock.lock();
+        try {
+            if (event.getStatus() != JobStatus.SAVED) {
+                event.getIds().forEach(wheel::cancel);
+                return;
+            }
+
+            // 이벤트에는 마감일이 없으므로 다시 SAVED 가 된 공고만 읽어 적재 구간 안의 것을 예약한다.
+            LocalDateTime now = LocalDateTime.now();
+            for (JobPostReminderTarget jobPost : jobPostRepository.findReminderTargetsByIdIn(List.copyOf(event.getIds()), JobStatus.SAVED)) {
+                if (jobPost.getClosingDateTime() != null && !jobPost.getClosingDateTime().isAfter(loadedUntil)) {
+                    schedule(jobPost, 0, now);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void extendHorizon() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime until = now.plus(horizon);
+            int loaded;
+
+            lock.lock();
+            try {
+                LocalDateTime from = loadedUntil.isAfter(now) ? loadedUntil : now;
+                List<JobPostReminderTarget> jobPosts = jobPostRepository.findReminderTargets(JobStatus.SAVED, from, until);
+                for (JobPostReminderTarget jobPost : jobPosts) {
+                    schedule(jobPost, 0, now);
+                }
+                loadedUntil = until;
+                loaded = jobPosts.size();
+            } finally {
+                lock.unlock();
+            }
+
+            log.debug("Loaded {} job posts closing until {} into reminder wheel", loaded, until);
+        } catch (RuntimeException e) {
+            log.warn("Failed to load closing reminders, will retry in {}", refresh, e);
+        }
+    }
+
+    void tick() {
+        tick(System.currentTimeMillis());
+    }
+
+    void tick(long nowMillis) {
+        try {
+            List<ClosingReminder> reminders;
+
+            lock.lock();
+            try {
+                reminders = wheel.advance(nowMillis);
+                LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochMilli(nowMillis), ZoneId.systemDefault());
+                for (ClosingReminder reminder : reminders) {
+                    schedule(reminder.getJobPost(), reminder.getKind().ordinal() + 1, now);
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            // 싱크 호출은 잠금 밖에서 한다.
+            for (ClosingReminder reminder : reminders) {
+                send(reminder);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Closing reminder tick failed", e);
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return wheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // fromKind 부터 아직 시각이 지나지 않은 첫 알림을 예약한다. 남은 알림이 없으면 휠에서 뺀다.
+    private void schedule(JobPostReminderTarget jobPost, int fromKind, LocalDateTime now) {
+        ReminderKind[] kinds = ReminderKind.values();
+        for (int i = fromKind; i < kinds.length; i++) {
+            ClosingReminder reminder = new ClosingReminder(kinds[i], jobPost);
+            if (!reminder.getFireAt().isBefore(now)) {
+                wheel.schedule(jobPost.getId(), toEpochMillis(reminder.getFireAt()), reminder);
+                return;
+            }
+        }
+        wheel.cancel(jobPost.getId());
+    }
+
+    private void send(ClosingReminder reminder) {
+        sinks.orderedStream().forEach(sink -> {
+            try {
+                sink.send(reminder);
+            } catch (RuntimeException e) {
+                log.warn("Reminder sink {} failed for job post {}", sink.getClass().getSimpleName(), reminder.getJobPost().getId(), e);
+            }
+        });
+
+        Counter counter = sentCounters.get(reminder.getKind());
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ReminderKind kind : ReminderKind.values()) {
+            sentCounters.put(kind, Counter.builder("reminder.sent").tag("kind", kind.name().toLowerCase()).register(registry));
+        }
+        Gauge.builder("reminder.scheduled", this, ClosingReminderScheduler::size)
+            .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,164 @@
+package com.gwtt.jobblog.reminder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 계층형 타이밍 휠. 등록과 취소는 항목 수와 관계없이 O(1) 이고, advance 는 지나간 틱 수와 꺼낸 항목 수에 비례한다.
+// 단계마다 wheelSize 개의 슬롯이 있고, 상위 단계의 슬롯 하나는 바로 아래 단계 한 바퀴에 해당한다.
+// 항목은 현재 틱과 처음 달라지는 자릿수의 단계에 놓였다가, 그 슬롯에 도달하면 아래 단계로 내려간다.
+// 최상위 단계 범위를 넘는 항목은 한 바퀴 뒤에 다시 배치한다.
+// 스레드 안전하지 않으므로 호출자가 동기화해야 한다.
+public final class HierarchicalTimingWheel<K, V> {
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final int levels;
+    private final Node<K, V>[][] buckets;
+    private final Node<K, V> due = Node.sentinel();
+    private final Map<K, Node<K, V>> nodes = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis <= 0 || levels <= 0 || wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("tickMillis, levels must be positive and wheelSize a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.levels = levels;
+        if ((long) bits * levels >= Long.SIZE - 1) {
+            throw new IllegalArgumentException("wheelSize^levels must fit in a long");
+        }
+        this.buckets = new Node[levels][wheelSize];
+        for (Node<K, V>[] level : buckets) {
+            for (int slot = 0; slot < wheelSize; slot++) {
+                level[slot] = Node.sentinel();
+            }
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    // 같은 키가 이미 있으면 교체한다. 이미 지난 시각이면 다음 advance 에서 바로 꺼내진다.
+    public void schedule(K key, long deadlineMillis, V value) {
+        cancel(key);
+        // deadline 이전에 꺼내지지 않도록 올림한다.
+        Node<K, V> node = new Node<>(key, value, Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis));
+        nodes.put(key, node);
+        place(node);
+    }
+
+    public boolean cancel(K key) {
+        Node<K, V> node = nodes.remove(key);
+        if (node == null) {
+            return false;
+        }
+        node.unlink();
+        return true;
+    }
+
+    public boolean contains(K key) {
+        return nodes.containsKey(key);
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    // nowMillis 까지 시간을 진행하고 기한이 된 항목을 꺼낸다.
+    public List<V> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+
+        if (nodes.isEmpty()) {
+            currentTick = Math.max(currentTick, targetTick);
+        }
+        while (currentTick < targetTick) {
+            currentTick++;
+            // 상위 단계부터 내려보내야 같은 틱에 하위 슬롯으로 내려온 항목도 이번 틱에 처리된다.
+            for (int level = levels - 1; level >= 0; level--) {
+                if ((currentTick & ((1L << (bits * level)) - 1)) == 0) {
+                    cascade(buckets[level][digit(currentTick, level)]);
+                }
+            }
+        }
+
+        List<V> expired = new ArrayList<>();
+        for (Node<K, V> node = due.next; node != due; node = due.next) {
+            node.unlink();
+            nodes.remove(node.key);
+            expired.add(node.value);
+        }
+        return expired;
+    }
+
+    private void cascade(Node<K, V> bucket) {
+        for (Node<K, V> node = bucket.next; node != bucket; node = bucket.next) {
+            node.unlink();
+            place(node);
+        }
+    }
+
+    private void place(Node<K, V> node) {
+        if (node.tick <= currentTick) {
+            due.linkLast(node);
+            return;
+        }
+
+        int level = (Long.SIZE - 1 - Long.numberOfLeadingZeros(node.tick ^ currentTick)) / bits;
+        if (level >= levels) {
+            int top = levels - 1;
+            if (node.tick - currentTick < (1L << (bits * levels))) {
+                // 다음 바퀴에 있지만 한 바퀴 이내면 그 슬롯의 다음 방문이 곧 해당 바퀴다.
+                buckets[top][digit(node.tick, top)].linkLast(node);
+            } else {
+                // 한 바퀴를 넘으면 가장 늦게 도달하는 슬롯에 두었다가 다시 배치한다.
+                buckets[top][(digit(currentTick, top) - 1) & mask].linkLast(node);
+            }
+        } else {
+            buckets[level][digit(node.tick, level)].linkLast(node);
+        }
+    }
+
+    private int digit(long tick, int level) {
+        return (int) ((tick >>> (bits * level)) & mask);
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final long tick;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        private Node(K key, V value, long tick) {
+            this.key = key;
+            this.value = value;
+            this.tick = tick;
+        }
+
+        private static <K, V> Node<K, V> sentinel() {
+            Node<K, V> head = new Node<>(null, null, Long.MIN_VALUE);
+            head.prev = head;
+            head.next = head;
+            return head;
+        }
+
+        private void linkLast(Node<K, V> node) {
+            node.prev = prev;
+            node.next = this;
+            prev.next = node;
+            prev = node;
+        }
+
+        private void unlink() {
+            if (prev != null) {
+                prev.next = next;
+                next.prev = prev;
+                prev = null;
+                next = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.gwtt.jobblog.reminder;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reminder.log-sink.enabled", havingValue = "true", matchIfMissing = true)
+public class LoggingReminderSink implements ReminderSink {
+
+    @Override
+    public void send(ClosingReminder reminder) {
+        log.info("{}: job post {} of user {} ({} - {}) closes at {}",
+            reminder.getKind(),
+            reminder.getJobPost().getId(),
+            reminder.getJobPost().getUserId(),
+            reminder.getJobPost().getCompanyName(),
+            reminder.getJobPost().getTitle(),
+            reminder.getJobPost().getClosingDateTime());
+    }
+}
@@ -0,0 +1,19 @@
+package com.gwtt.jobblog.reminder;
+
+import java.time.Duration;
+
+// 마감 전 알림 시점. 마감까지 남은 시간이 긴 것부터 선언한다.
+public enum ReminderKind {
+    CLOSING_IN_24H(Duration.ofHours(24)),
+    CLOSING_IN_1H(Duration.ofHours(1));
+
+    private final Duration beforeClosing;
+
+    ReminderKind(Duration beforeClosing) {
+        this.beforeClosing = beforeClosing;
+    }
+
+    public Duration getBeforeClosing() {
+        return beforeClosing;
+    }
+}
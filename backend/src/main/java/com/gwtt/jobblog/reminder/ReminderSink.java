@@ -0,0 +1,6 @@
+package com.gwtt.jobblog.reminder;
+
+// 마감 알림을 내보내는 곳(로그, 메일, 푸시 등). 알림 스레드에서 호출되므로 오래 막히지 않아야 한다.
+public interface ReminderSink {
+    void send(ClosingReminder reminder);
+}
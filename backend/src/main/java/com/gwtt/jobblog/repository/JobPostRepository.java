@@ -3,19 +3,169 @@ package com.gwtt.jobblog.repository;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.gwtt.jobblog.domain.JobPost;
+import com.gwtt.jobblog.domain.JobStatus;
+import com.gwtt.jobblog.dto.JobPostCollectionVersion;
+import com.gwtt.jobblog.dto.JobPostIdStatus;
+import com.gwtt.jobblog.dto.JobPostOwner;
+import com.gwtt.jobblog.dto.JobPostReminderTarget;
+import com.gwtt.jobblog.dto.JobPostSimpleResponseDto;
+import com.gwtt.jobblog.dto.JobPostStatusCount;
+import com.gwtt.jobblog.dto.JobPostTextSource;
+
+import jakarta.persistence.QueryHint;
 
 public interface JobPostRepository extends JpaRepository<JobPost, Long> {
+    // 네이티브 벌크 UPDATE 의 쿼리 공간. 어떤 엔티티 테이블과도 겹치지 않아 2차 캐시 리전이 무효화되지 않는다.
+    String BULK_UPDATE_SPACE = "job_post_bulk_update";
+
     @Query("SELECT jp FROM JobPost jp JOIN FETCH jp.user WHERE jp.id = :id")
     Optional<JobPost> findWithUserById(@Param("id") Long id);
 
-    List<JobPost> findAllByUser_Id(@Param("userId") Long userId);
+    // 조건부 GET 용 버전 조회. 엔티티를 읽지 않는다.
+    @Query("SELECT jp.updatedAt FROM JobPost jp WHERE jp.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    // JobPostCollectionVersionCache 가 사용자별로 처음 한 번만 읽는다. (user_id, updated_at) 인덱스만으로 계산된다.
+    @Query("SELECT new com.gwtt.jobblog.dto.JobPostCollectionVersion(COUNT(jp), MAX(jp.updatedAt)) FROM JobPost jp WHERE jp.user.id = :userId")
+    JobPostCollectionVersion findCollectionVersionByUserId(@Param("userId") Long userId);
+
+    // 목록 조회는 엔티티 대신 목록에 필요한 컬럼만 DTO 로 바로 읽는다. (description, applyUrl 제외)
+    // (user_id, created_at, id) 인덱스를 역순으로 읽는 키셋 페이지네이션
+    @Query("""
+        SELECT new com.gwtt.jobblog.dto.JobPostSimpleResponseDto(jp.id, jp.companyName, jp.title, jp.status, jp.closingDateTime, jp.createdAt, jp.updatedAt)
+        FROM JobPost jp
+        WHERE jp.user.id = :userId
+        ORDER BY jp.createdAt DESC, jp.id DESC
+    """)
+    List<JobPostSimpleResponseDto> findFirstPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("""
+        SELECT new com.gwtt.jobblog.dto.JobPostSimpleResponseDto(jp.id, jp.companyName, jp.title, jp.status, jp.closingDateTime, jp.createdAt, jp.updatedAt)
+        FROM JobPost jp
+        WHERE jp.user.id = :userId
+        AND (jp.createdAt < :createdAt OR (jp.createdAt = :createdAt AND jp.id < :id))
+        ORDER BY jp.createdAt DESC, jp.id DESC
+    """)
+    List<JobPostSimpleResponseDto> findPageByUserIdAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("""
+        SELECT new com.gwtt.jobblog.dto.JobPostSimpleResponseDto(jp.id, jp.companyName, jp.title, jp.status, jp.closingDateTime, jp.createdAt, jp.updatedAt)
+        FROM JobPost jp
+        WHERE jp.user.id = :userId
+    """)
+    List<JobPostSimpleResponseDto> findAllSimpleByUserId(@Param("userId") Long userId);
+
+    @Query("""
+        SELECT new com.gwtt.jobblog.dto.JobPostSimpleResponseDto(jp.id, jp.companyName, jp.title, jp.status, jp.closingDateTime, jp.createdAt, jp.updatedAt)
+        FROM JobPost jp
+        WHERE jp.user.id = :userId AND jp.closingDateTime >= :startDateTime AND jp.createdAt <= :endDateTime
+    """)
+    List<JobPostSimpleResponseDto> searchOverlappingJobPosts(@Param("userId") Long userId, @Param("startDateTime") LocalDateTime startDateTime, @Param("endDateTime") LocalDateTime endDateTime);
+
+    @Query("""
+        SELECT new com.gwtt.jobblog.dto.JobPostSimpleResponseDto(jp.id, jp.companyName, jp.title, jp.status, jp.closingDateTime, jp.createdAt, jp.updatedAt)
+        FROM JobPost jp
+        WHERE jp.id IN :ids AND jp.user.id = :userId
+    """)
+    List<JobPostSimpleResponseDto> findAllSimpleByIdInAndUserId(@Param("ids") List<Long> ids, @Param("userId") Long userId);
+
+    // 상태별 통계 재계산. (user_id, ...) 인덱스로 한 사용자의 공고만 읽는다.
+    @Query("""
+        SELECT new com.gwtt.jobblog.dto.JobPostStatusCount(jp.status, COUNT(jp), SUM(CASE WHEN jp.appliedAt >= :since THEN 1 ELSE 0 END))
+        FROM JobPost jp
+        WHERE jp.user.id = :userId
+        GROUP BY jp.status
+    """)
+    List<JobPostStatusCount> countByStatus(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    // 마감 알림 적재용 범위 조회. (status, closing_date_time) 인덱스를 사용한다.
+    @Query("""
+        SELECT new com.gwtt.jobblog.dto.JobPostReminderTarget(jp.id, jp.user.id, jp.companyName, jp.title, jp.closingDateTime)
+        FROM JobPost jp
+        WHERE jp.status = :status AND jp.closingDateTime > :from AND jp.closingDateTime <= :to
+    """)
+    List<JobPostReminderTarget> findReminderTargets(@Param("status") JobStatus status, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 마감이 지난 공고 만료 대상. (status, closing_date_time) 인덱스 범위를 마감 순으로 읽는다.
+    @Query("SELECT jp.id AS id, jp.user.id AS userId FROM JobPost jp WHERE jp.status = :status AND jp.closingDateTime < :now ORDER BY jp.closingDateTime")
+    List<JobPostOwner> findOwnersByStatusAndClosingBefore(@Param("status") JobStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 벌크 UPDATE 는 감사(@LastModifiedDate)를 거치지 않으므로 updatedAt 을 직접 넣는다.
+    // 조회와 UPDATE 사이에 사용자가 마감일이나 상태를 바꿨을 수 있으므로 조건을 다시 확인한다.
+    default int expireByIdIn(List<Long> ids, LocalDateTime now) {
+        return expireByIdIn(ids, JobStatus.SAVED.ordinal(), JobStatus.EXPIRED.ordinal(), now);
+    }
+
+    // JPQL 벌크 UPDATE 는 JobPost 2차 캐시 리전 전체를 비운다. 네이티브 UPDATE 에 엔티티 테이블이 아닌 쿼리 공간을 지정해
+    // 리전을 건드리지 않게 하고, 바뀐 공고만 JobPostService 가 캐시에서 뺀다. status 컬럼은 ordinal 로 저장된다.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = BULK_UPDATE_SPACE))
+    @Query(value = """
+        UPDATE job_post SET status = :expired, updated_at = :now
+        WHERE id IN (:ids) AND status = :saved AND closing_date_time < :now
+    """, nativeQuery = true)
+    int expireByIdIn(@Param("ids") List<Long> ids, @Param("saved") int saved, @Param("expired") int expired, @Param("now") LocalDateTime now);
+
+    @Query("SELECT jp.id FROM JobPost jp WHERE jp.id IN :ids AND jp.status = :status AND jp.updatedAt = :updatedAt")
+    List<Long> findIdsByIdInAndStatusAndUpdatedAt(@Param("ids") List<Long> ids, @Param("status") JobStatus status, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 일괄 상태 변경 대상과 바뀌기 전 상태. 소유자 조건을 넣어 다른 사용자의 공고는 읽지 않는다.
+    @Query("""
+        SELECT jp.id AS id, jp.status AS status FROM JobPost jp
+        WHERE jp.id IN :ids AND jp.user.id = :userId AND (jp.status <> :status OR jp.status IS NULL)
+    """)
+    List<JobPostIdStatus> findStatusesToChange(@Param("ids") List<Long> ids, @Param("userId") Long userId, @Param("status") JobStatus status);
+
+    // 소유자 확인을 WHERE 에 넣어 공고 수와 관계없이 UPDATE 한 번으로 바꾼다.
+    // 이미 같은 상태인 공고는 WHERE 에서 빠지므로 APPLIED 로 바뀌는 공고만 appliedAt 이 바뀐다.
+    default int updateStatusByIdInAndUserId(List<Long> ids, Long userId, JobStatus status, LocalDateTime now) {
+        return updateStatusByIdInAndUserId(ids, userId, status.ordinal(), JobStatus.APPLIED.ordinal(), now);
+    }
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = BULK_UPDATE_SPACE))
+    @Query(value = """
+        UPDATE job_post SET status = :status, updated_at = :now,
+            applied_at = CASE WHEN :status = :applied THEN :now ELSE applied_at END
+        WHERE id IN (:ids) AND user_id = :userId AND (status <> :status OR status IS NULL)
+    """, nativeQuery = true)
+    int updateStatusByIdInAndUserId(@Param("ids") List<Long> ids, @Param("userId") Long userId, @Param("status") int status,
+                                    @Param("applied") int applied, @Param("now") LocalDateTime now);
+
+    @Query("""
+        SELECT new com.gwtt.jobblog.dto.JobPostReminderTarget(jp.id, jp.user.id, jp.companyName, jp.title, jp.closingDateTime)
+        FROM JobPost jp
+        WHERE jp.id IN :ids AND jp.status = :status
+    """)
+    List<JobPostReminderTarget> findReminderTargetsByIdIn(@Param("ids") List<Long> ids, @Param("status") JobStatus status);
+
+    // 텍스트 인덱스 재구축용 키셋 배치. PK 순서로 pageable 크기만큼만 읽으므로 드라이버 설정과 관계없이 메모리에 올라가는 행 수가 제한된다.
+    @Query("""
+        SELECT jp.id AS id, jp.user.id AS userId, jp.companyName AS companyName, jp.title AS title, jp.description AS description
+        FROM JobPost jp
+        WHERE jp.id > :afterId
+        ORDER BY jp.id
+    """)
+    List<JobPostTextSource> findTextSourcesAfter(@Param("afterId") Long afterId, Pageable pageable);
 
-    @Query("SELECT jp FROM JobPost jp WHERE jp.user.id = :userId AND jp.closingDateTime >= :startDateTime AND jp.createdAt <= :endDateTime")
-    List<JobPost> searchOverlappingJobPosts(@Param("userId") Long userId, @Param("startDateTime") LocalDateTime startDateTime, @Param("endDateTime") LocalDateTime endDateTime);
+    // MySQL 에서는 JDBC URL 에 useCursorFetch=true 가 있어야 fetchSize 만큼씩 읽는다. (application-prod.yaml.example)
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true"),
+        // 전체 내보내기가 2차 캐시를 밀어내지 않도록 캐시에서 읽기만 한다.
+        @QueryHint(name = "org.hibernate.cacheMode", value = "GET")
+    })
+    @Query("SELECT jp FROM JobPost jp WHERE jp.user.id = :userId ORDER BY jp.createdAt DESC, jp.id DESC")
+    Stream<JobPost> streamAllByUserId(@Param("userId") Long userId);
 }
@@ -1,30 +1,74 @@
 package com.gwtt.jobblog.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
-import org.springframework.data.jpa.repository.Lock;
-import jakarta.persistence.LockModeType;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.gwtt.jobblog.domain.RefreshToken;
 
-public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    Optional<RefreshToken> findByJti(String jti);
+import jakarta.persistence.QueryHint;
 
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     List<RefreshToken> findAllByUserId(Long userId);
 
+    // 토큰 교체: 조건을 모두 만족하는 한 건만 폐기되므로 영향받은 행 수(0 또는 1)로 동시 요청 중 승자를 정한다.
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update RefreshToken rt
+        set rt.revoked = true,
+            rt.expiryDate = :now,
+            rt.entityVersion = rt.entityVersion + 1
+        where rt.jti = :jti
+        and rt.refreshHash = :refreshHash
+        and rt.tokenVersion = :tokenVersion
+        and rt.revoked = false
+        and rt.expiryDate > :now
+    """)
+    int revokeForRotation(@Param("jti") String jti,
+                          @Param("refreshHash") String refreshHash,
+                          @Param("tokenVersion") int tokenVersion,
+                          @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update RefreshToken rt
+        set rt.revoked = true,
+            rt.expiryDate = :now,
+            rt.entityVersion = rt.entityVersion + 1
+        where rt.jti = :jti
+        and rt.revoked = false
+    """)
+    int revokeByJti(@Param("jti") String jti, @Param("now") LocalDateTime now);
+
       // 전역 무효화: 벌크 업데이트
+    // 폐기 시 만료일도 당겨서 정리 작업이 expiry_date 하나로 폐기/만료 토큰을 모두 지울 수 있게 한다.
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
         update RefreshToken rt
-        set rt.revoked = true
+        set rt.revoked = true,
+            rt.expiryDate = :now,
+            rt.entityVersion = rt.entityVersion + 1
         where rt.userId = :userId
         and rt.revoked = false
     """)
-    int bulkRevokeByUserId(@Param("userId") Long userId);
+    int bulkRevokeByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // expiry_date 인덱스 순서로 최대 limit 건만 지운다. 호출마다 별도의 짧은 트랜잭션으로 실행된다.
+    // native 쿼리는 영향받는 테이블을 알려 주지 않으면 2차 캐시 전체가 비워진다.
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "refresh_token"))
+    @Query(value = """
+        delete from refresh_token
+        where expiry_date < :cutoff
+        order by expiry_date
+        limit :limit
+    """, nativeQuery = true)
+    int deleteExpiredBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
\ No newline at end of file
@@ -4,10 +4,8 @@ import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import com.gwtt.jobblog.domain.Provider;
 import com.gwtt.jobblog.domain.User;
 
-public interface UserRepository extends JpaRepository<User, Long> {    
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {    
     Optional<User> findByEmailAndProviderId(String email, String providerId);
-    Optional<User> findByProviderAndProviderId(Provider provider, String providerId);
 }
@@ -0,0 +1,10 @@
+package com.gwtt.jobblog.repository;
+
+import java.util.Optional;
+
+import com.gwtt.jobblog.domain.Provider;
+import com.gwtt.jobblog.domain.User;
+
+public interface UserRepositoryCustom {
+    Optional<User> findByProviderAndProviderId(Provider provider, String providerId);
+}
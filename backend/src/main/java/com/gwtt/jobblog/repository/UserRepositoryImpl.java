@@ -0,0 +1,26 @@
+package com.gwtt.jobblog.repository;
+
+import java.util.Optional;
+
+import org.hibernate.Session;
+
+import com.gwtt.jobblog.domain.Provider;
+import com.gwtt.jobblog.domain.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class UserRepositoryImpl implements UserRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 파생 쿼리 대신 natural id 로 조회해야 natural id 캐시(User##NaturalId)와 엔티티 캐시를 탄다.
+    @Override
+    public Optional<User> findByProviderAndProviderId(Provider provider, String providerId) {
+        return entityManager.unwrap(Session.class)
+            .byNaturalId(User.class)
+            .using("provider", provider)
+            .using("providerId", providerId)
+            .loadOptional();
+    }
+}
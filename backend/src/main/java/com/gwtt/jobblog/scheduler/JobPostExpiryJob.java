@@ -0,0 +1,85 @@
+package com.gwtt.jobblog.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.gwtt.jobblog.dto.JobPostExpiryResult;
+import com.gwtt.jobblog.service.JobPostService;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// 마감이 지난 SAVED 공고를 EXPIRED 로 바꾼다.
+// batch-size 건씩 짧은 트랜잭션의 집합 UPDATE 로 처리하고, 배치 사이에 pause 만큼 쉰다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jobpost.expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class JobPostExpiryJob {
+    private final JobPostService jobPostService;
+    private final int batchSize;
+    private final Duration pause;
+    private final long maxRowsPerRun;
+    private final DistributionSummary rowsPerRun;
+    private final Timer runDuration;
+
+    public JobPostExpiryJob(JobPostService jobPostService,
+                            MeterRegistry meterRegistry,
+                            @Value("${jobpost.expiry.batch-size:500}") int batchSize,
+                            @Value("${jobpost.expiry.pause:100ms}") Duration pause,
+                            @Value("${jobpost.expiry.max-rows-per-run:100000}") long maxRowsPerRun) {
+        this.jobPostService = jobPostService;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.maxRowsPerRun = maxRowsPerRun;
+        this.rowsPerRun = DistributionSummary.builder("jobpost.expiry.rows")
+            .description("Job posts moved to EXPIRED per run")
+            .register(meterRegistry);
+        this.runDuration = Timer.builder("jobpost.expiry.duration")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${jobpost.expiry.cron:0 * * * * *}")
+    public void expire() {
+        // updatedAt 으로도 쓰이므로 DB 에 저장되는 정밀도로 자른다.
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        long startedAt = System.nanoTime();
+        long total = 0;
+        long scanned = 0;
+        int batches = 0;
+        JobPostExpiryResult result;
+
+        // 조회 이후 사용자가 먼저 바꾼 공고는 바뀐 건수에서 빠지므로, 남은 대상이 있는지는 조회한 건수로 판단한다.
+        do {
+            result = jobPostService.expireClosedJobPosts(now, batchSize);
+            total += result.getExpired();
+            scanned += result.getCandidates();
+            batches++;
+        } while (result.getCandidates() == batchSize && scanned < maxRowsPerRun && sleep());
+
+        long elapsed = System.nanoTime() - startedAt;
+        rowsPerRun.record(total);
+        runDuration.record(Duration.ofNanos(elapsed));
+
+        if (total > 0) {
+            log.info("Expired {} job posts in {} batches, {} ms", total, batches, Duration.ofNanos(elapsed).toMillis());
+        }
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
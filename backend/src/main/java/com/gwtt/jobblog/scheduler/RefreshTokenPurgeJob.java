@@ -0,0 +1,67 @@
+package com.gwtt.jobblog.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.gwtt.jobblog.repository.RefreshTokenRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 만료되었거나 폐기된 refresh token 을 주기적으로 지운다.
+// 한 번에 batch-size 건씩 짧은 트랜잭션으로 지우고 사이사이 pause 만큼 쉬어서,
+// 동시에 실행되는 토큰 갱신이 긴 잠금을 기다리지 않게 한다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.refresh-token-purge.enabled", havingValue = "true", matchIfMissing = true)
+public class RefreshTokenPurgeJob {
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final int batchSize;
+    private final Duration pause;
+    private final long maxRowsPerRun;
+
+    public RefreshTokenPurgeJob(RefreshTokenRepository refreshTokenRepository,
+                                @Value("${auth.refresh-token-purge.batch-size:1000}") int batchSize,
+                                @Value("${auth.refresh-token-purge.pause:200ms}") Duration pause,
+                                @Value("${auth.refresh-token-purge.max-rows-per-run:1000000}") long maxRowsPerRun) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.maxRowsPerRun = maxRowsPerRun;
+    }
+
+    @Scheduled(cron = "${auth.refresh-token-purge.cron:0 30 4 * * *}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        long startedAt = System.currentTimeMillis();
+        long total = 0;
+        int batches = 0;
+        int deleted;
+
+        do {
+            deleted = refreshTokenRepository.deleteExpiredBefore(cutoff, batchSize);
+            total += deleted;
+            batches++;
+
+            if (batches % 10 == 0) {
+                log.info("Purging refresh tokens: {} rows in {} batches so far", total, batches);
+            }
+        } while (deleted == batchSize && total < maxRowsPerRun && sleep());
+
+        log.info("Purged {} expired refresh tokens in {} batches, {} ms", total, batches, System.currentTimeMillis() - startedAt);
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
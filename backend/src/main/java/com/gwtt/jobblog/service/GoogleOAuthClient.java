@@ -0,0 +1,207 @@
+package com.gwtt.jobblog.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.gwtt.jobblog.dto.GoogleTokenResponse;
+import com.gwtt.jobblog.dto.GoogleUserResponse;
+import com.gwtt.jobblog.exceptions.ServiceUnavailableException;
+import com.gwtt.jobblog.util.CircuitBreaker;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// 구글 token / userinfo 호출 전용 클라이언트.
+// 커넥션 풀(호스트별 상한)과 타임아웃을 두고, 동시 호출 수 제한(bulkhead)과 서킷 브레이커로
+// 느려진 구글이 요청 스레드를 모두 붙잡지 못하게 한다.
+@Component
+public class GoogleOAuthClient implements DisposableBean {
+    private final String clientId;
+    private final String clientSecret;
+    private final String redirectUri;
+    private final String tokenUri;
+    private final String userInfoUri;
+
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+    private final Semaphore bulkhead;
+    private final Duration bulkheadWait;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    public GoogleOAuthClient(RestTemplateBuilder restTemplateBuilder,
+                             MeterRegistry meterRegistry,
+                             @Value("${google.client-id}") String clientId,
+                             @Value("${google.client-secret}") String clientSecret,
+                             @Value("${google.redirect-uri}") String redirectUri,
+                             @Value("${google.token-uri:https://oauth2.googleapis.com/token}") String tokenUri,
+                             @Value("${google.userinfo-uri:https://www.googleapis.com/oauth2/v2/userinfo}") String userInfoUri,
+                             @Value("${google.http.max-connections:50}") int maxConnections,
+                             @Value("${google.http.max-connections-per-route:20}") int maxConnectionsPerRoute,
+                             @Value("${google.http.connect-timeout:2s}") Duration connectTimeout,
+                             @Value("${google.http.read-timeout:5s}") Duration readTimeout,
+                             @Value("${google.http.pool-timeout:1s}") Duration poolTimeout,
+                             @Value("${google.http.max-concurrent-calls:40}") int maxConcurrentCalls,
+                             @Value("${google.http.bulkhead-wait:500ms}") Duration bulkheadWait,
+                             @Value("${google.http.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                             @Value("${google.http.circuit-breaker.open-duration:30s}") Duration openDuration) {
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.redirectUri = redirectUri;
+        this.tokenUri = tokenUri;
+        this.userInfoUri = userInfoUri;
+
+        this.httpClient = HttpClients.custom()
+            .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.of(connectTimeout))
+                    .setSocketTimeout(Timeout.of(readTimeout))
+                    .setTimeToLive(TimeValue.ofMinutes(5))
+                    .build())
+                .build())
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(poolTimeout))
+                .setResponseTimeout(Timeout.of(readTimeout))
+                .build())
+            .evictIdleConnections(TimeValue.ofSeconds(30))
+            .build();
+        this.restTemplate = restTemplateBuilder
+            .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+            .build();
+
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.bulkheadWait = bulkheadWait;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDuration);
+
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("google.oauth.bulkhead.available", bulkhead, Semaphore::availablePermits)
+            .register(meterRegistry);
+        Gauge.builder("google.oauth.circuit.open", circuitBreaker, breaker -> breaker.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+            .register(meterRegistry);
+    }
+
+    public GoogleTokenResponse exchangeCode(String code) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("code", code);
+        params.add("client_id", clientId);
+        params.add("client_secret", clientSecret);
+        params.add("redirect_uri", redirectUri);
+        params.add("grant_type", "authorization_code");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+        HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(params, headers);
+        ResponseEntity<GoogleTokenResponse> response = call("token",
+            () -> restTemplate.postForEntity(tokenUri, requestEntity, GoogleTokenResponse.class));
+
+        if (response.getStatusCode() != HttpStatus.OK || response.getBody() == null) {
+            throw new RuntimeException("Failed to get access token");
+        }
+        return response.getBody();
+    }
+
+    public GoogleUserResponse fetchUserInfo(String accessToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        HttpEntity<String> requestEntity = new HttpEntity<>(headers);
+        ResponseEntity<GoogleUserResponse> response = call("userinfo",
+            () -> restTemplate.exchange(userInfoUri, HttpMethod.GET, requestEntity, GoogleUserResponse.class));
+
+        if (response.getBody() == null) {
+            throw new RuntimeException("Failed to get user info");
+        }
+        return response.getBody();
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    // 연결 실패, 타임아웃, 5xx 만 서킷 브레이커 실패로 센다. 4xx 는 구글이 정상 응답한 것으로 본다.
+    private <T> T call(String operation, Supplier<T> request) {
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire(bulkheadWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Google OAuth call interrupted");
+        }
+        if (!acquired) {
+            reject(operation, "bulkhead");
+            throw new ServiceUnavailableException("Too many concurrent Google OAuth calls");
+        }
+
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                reject(operation, "circuit_open");
+                throw new ServiceUnavailableException("Google OAuth is temporarily unavailable");
+            }
+
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "success";
+            try {
+                T result = request.get();
+                circuitBreaker.onSuccess();
+                return result;
+            } catch (ResourceAccessException | HttpServerErrorException e) {
+                outcome = "failure";
+                circuitBreaker.onFailure();
+                throw e;
+            } catch (RuntimeException e) {
+                outcome = "client_error";
+                circuitBreaker.onSuccess();
+                throw e;
+            } finally {
+                sample.stop(Timer.builder("google.oauth.calls")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private void reject(String operation, String reason) {
+        meterRegistry.counter("google.oauth.rejections", "operation", operation, "reason", reason).increment();
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        httpClient.close();
+    }
+}
@@ -4,101 +4,67 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
-
-import io.jsonwebtoken.Claims;
 
+import com.gwtt.jobblog.auth.PrincipalCache;
 import com.gwtt.jobblog.domain.RefreshToken;
 import com.gwtt.jobblog.domain.Provider;
 import com.gwtt.jobblog.domain.User;
-import com.gwtt.jobblog.dto.GoogleTokenResponse;
 import com.gwtt.jobblog.dto.GoogleUserResponse;
+import com.gwtt.jobblog.event.RefreshTokensRevokedEvent;
 import com.gwtt.jobblog.exceptions.UnauthorizedException;
 import com.gwtt.jobblog.repository.RefreshTokenRepository;
 import com.gwtt.jobblog.repository.UserRepository;
 import com.gwtt.jobblog.util.HashUtil;
+import com.gwtt.jobblog.util.IssuedRefreshToken;
 import com.gwtt.jobblog.util.JwtProvider;
+import com.gwtt.jobblog.util.RefreshTokenClaims;
 
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class GoogleOAuthService {
-    @Value("${google.client-id}")
-    private String clientId;
-    @Value("${google.client-secret}")
-    private String clientSecret;
-    @Value("${google.redirect-uri}")
-    private String redirectUri;
-
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final GoogleOAuthClient googleOAuthClient;
     private final JwtProvider jwtProvider;
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final HashUtil hashUtil;
+    private final PrincipalCache principalCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional
+    // 구글 호출을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션은 외부 호출이 끝난 뒤에 시작한다.
     public Map<String, String> loginWithGoogle(String code) {
-        String tokenUrl = "https://oauth2.googleapis.com/token";
-
-        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-        params.add("code", code);
-        params.add("client_id", clientId);
-        params.add("client_secret", clientSecret);
-        params.add("redirect_uri", redirectUri);
-        params.add("grant_type", "authorization_code");
-        
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-
-        HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(params, headers);
-        ResponseEntity<GoogleTokenResponse> response = restTemplate.postForEntity(tokenUrl, requestEntity, GoogleTokenResponse.class);
-        
-        if (response.getStatusCode() != HttpStatus.OK) {
-            throw new RuntimeException("Failed to get access token");
-        }
+        GoogleUserResponse userInfo = fetchGoogleUser(code);
+        return transactionTemplate.execute(status -> issueTokens(userInfo));
+    }
 
-        String googleAccessToken = response.getBody().getAccessToken();
+    private GoogleUserResponse fetchGoogleUser(String code) {
+        String googleAccessToken = googleOAuthClient.exchangeCode(code).getAccessToken();
 
         if (googleAccessToken == null) {
             throw new RuntimeException("Failed to get access token");
         }
-        
-        HttpHeaders userInfoHeaders = new HttpHeaders();
-        userInfoHeaders.setBearerAuth(googleAccessToken);
-        userInfoHeaders.setContentType(MediaType.APPLICATION_JSON);
 
-        HttpEntity<String> userInfoRequest = new HttpEntity<>(userInfoHeaders);
-        ResponseEntity<GoogleUserResponse> userInfoResponse = restTemplate.exchange(
-            "https://www.googleapis.com/oauth2/v2/userinfo",
-            HttpMethod.GET,
-            userInfoRequest,
-            GoogleUserResponse.class
-        );
+        return googleOAuthClient.fetchUserInfo(googleAccessToken);
+    }
 
-        User user = userRepository.findByProviderAndProviderId(Provider.GOOGLE, userInfoResponse.getBody().getId())
-                    .orElseGet(()->registerUser(userInfoResponse.getBody()));
+    private Map<String, String> issueTokens(GoogleUserResponse userInfo) {
+        User user = userRepository.findByProviderAndProviderId(Provider.GOOGLE, userInfo.getId())
+                    .orElseGet(()->registerUser(userInfo));
 
         String accessToken = jwtProvider.createAccessToken(user.getId(), user.getTokenVersion());
-        String refreshToken = jwtProvider.createRefreshToken(user.getId(), user.getTokenVersion(), 1);
-        String jti = jwtProvider.getJtiFromToken(refreshToken);
-        String refreshHash = hashUtil.hash(refreshToken);
+        IssuedRefreshToken refreshToken = jwtProvider.createRefreshToken(user.getId(), user.getTokenVersion(), 1);
+        String refreshHash = hashUtil.hash(refreshToken.getToken());
 
         RefreshToken refreshTokenEntity = RefreshToken.builder()
             .refreshHash(refreshHash)
             .userId(user.getId())
-            .jti(jti)
+            .jti(refreshToken.getJti())
             .expiryDate(LocalDateTime.now().plusDays(14))
             .issuedAt(LocalDateTime.now())
             .revoked(false)
@@ -109,65 +75,49 @@ public class GoogleOAuthService {
 
         Map<String, String> tokens = new HashMap<>();
         tokens.put("accessToken", accessToken);
-        tokens.put("refreshToken", refreshToken);
+        tokens.put("refreshToken", refreshToken.getToken());
 
         return tokens;
     }
 
     @Transactional
     public Map<String, String> refreshToken(String refreshToken) {
-        if (!jwtProvider.isValidRefreshToken(refreshToken)) {
-            throw new UnauthorizedException("Invalid refresh token");
-        }
-        
-        Claims claims = jwtProvider.parseRefreshToken(refreshToken);
+        RefreshTokenClaims claims = jwtProvider.verifyRefreshToken(refreshToken);
 
-        User user = userRepository.findById(Long.parseLong(claims.getSubject()))
+        User user = userRepository.findById(claims.getUserId())
                     .orElseThrow(() -> new RuntimeException("User not found"));
         
-        int uver = claims.get("uver", Integer.class);
-        int sver = claims.get("sver", Integer.class);
-        String jti = claims.get("jti", String.class);
+        int uver = claims.getUserVersion();
+        int sver = claims.getSessionVersion();
+        String jti = claims.getJti();
         
         if (user.getTokenVersion() != uver) {
             throw new UnauthorizedException("Invalid user version");
         }
         
-        RefreshToken serverToken = refreshTokenRepository.findByJti(jti)
-            .orElseThrow(() -> new UnauthorizedException("Refresh token not found"));
-        
-        if (!serverToken.getRefreshHash().equals(hashUtil.hash(refreshToken))) {
-            throw new UnauthorizedException("Invalid refresh token");
-        }
-
-        if (serverToken.isRevoked() || serverToken.isExpired()) {
+        // 행 잠금 없이 조건부 UPDATE 한 번으로 폐기한다. 이미 다른 요청이 교체했거나 해시, 세션 버전,
+        // 만료 조건 중 하나라도 맞지 않으면 0 건이 갱신된다.
+        int revoked = refreshTokenRepository.revokeForRotation(jti, hashUtil.hash(refreshToken), sver, LocalDateTime.now());
+        if (revoked == 0) {
             throw new UnauthorizedException("Refresh token revoked or expired");
         }
 
-        if (serverToken.getTokenVersion() != sver) {
-            throw new UnauthorizedException("Invalid session version");
-        }
-
-        serverToken.revoke();
-        refreshTokenRepository.save(serverToken);
-
         String newAccessToken = jwtProvider.createAccessToken(user.getId(), uver);
-        String newRefreshToken = jwtProvider.createRefreshToken(user.getId(), uver, sver + 1);
-        String newJti = jwtProvider.getJtiFromToken(newRefreshToken);
+        IssuedRefreshToken newRefreshToken = jwtProvider.createRefreshToken(user.getId(), uver, sver + 1);
 
         RefreshToken newRefreshTokenEntity = RefreshToken.builder()
-            .refreshHash(hashUtil.hash(newRefreshToken))
+            .refreshHash(hashUtil.hash(newRefreshToken.getToken()))
             .userId(user.getId())
             .expiryDate(LocalDateTime.now().plusDays(14))
             .issuedAt(LocalDateTime.now())
             .revoked(false)
-            .jti(newJti)
+            .jti(newRefreshToken.getJti())
             .tokenVersion(sver + 1)
             .build();
 
         refreshTokenRepository.save(newRefreshTokenEntity);
 
-        return Map.of("accessToken", newAccessToken, "refreshToken", newRefreshToken);
+        return Map.of("accessToken", newAccessToken, "refreshToken", newRefreshToken.getToken());
 
     }
 
@@ -191,20 +141,15 @@ public class GoogleOAuthService {
         user.updateTokenVersion();
         userRepository.save(user);
 
-        refreshTokenRepository.bulkRevokeByUserId(userId);
+        refreshTokenRepository.bulkRevokeByUserId(userId, LocalDateTime.now());
+        principalCache.evict(userId);
+        eventPublisher.publishEvent(new RefreshTokensRevokedEvent(userId, null));
     }
 
     @Transactional
     public void logout(String refreshToken) {
-        if (!jwtProvider.isValidRefreshToken(refreshToken)) {
-            throw new UnauthorizedException("Invalid refresh token");
-        }
-
-        String jti = jwtProvider.getJtiFromToken(refreshToken);
-        RefreshToken refreshTokenEntity = refreshTokenRepository.findByJti(jti)
-            .orElseThrow(() -> new UnauthorizedException("Refresh token not found"));
-        
-        refreshTokenEntity.revoke();
-        refreshTokenRepository.save(refreshTokenEntity);
+        RefreshTokenClaims claims = jwtProvider.verifyRefreshToken(refreshToken);
+        refreshTokenRepository.revokeByJti(claims.getJti(), LocalDateTime.now());
+        eventPublisher.publishEvent(new RefreshTokensRevokedEvent(claims.getUserId(), claims.getJti()));
     }
 }
@@ -0,0 +1,222 @@
+package com.gwtt.jobblog.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.gwtt.jobblog.domain.JobPost;
+import com.gwtt.jobblog.domain.JobStatus;
+import com.gwtt.jobblog.domain.User;
+import com.gwtt.jobblog.dto.JobPostBulkImportResponseDto;
+import com.gwtt.jobblog.dto.JobPostBulkImportRowResultDto;
+import com.gwtt.jobblog.dto.JobPostRequestDto;
+import com.gwtt.jobblog.event.JobPostChangedEvent;
+import com.gwtt.jobblog.exceptions.InvalidArgumentException;
+
+import jakarta.persistence.EntityManager;
+
+// 여러 공고를 한 트랜잭션에서 batch-size 단위로 flush/clear 하며 저장한다.
+// hibernate.jdbc.batch_size 와 같은 값을 쓰면 한 번의 flush 가 하나의 JDBC 배치가 된다.
+// 요청 본문은 트랜잭션 밖에서 한 행씩 파싱하고, max-rows 를 넘는 순간 중단하므로 본문 크기만큼 메모리를 쓰지 않는다.
+@Service
+public class JobPostBulkImportService {
+    private static final String INVALID_ROW = "JSON 형식이 올바르지 않습니다.";
+
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader rowReader;
+    private final int batchSize;
+    private final int maxRows;
+
+    public JobPostBulkImportService(EntityManager entityManager,
+                                    ApplicationEventPublisher eventPublisher,
+                                    PlatformTransactionManager transactionManager,
+                                    ObjectMapper objectMapper,
+                                    @Value("${jobpost.bulk.batch-size:50}") int batchSize,
+                                    @Value("${jobpost.bulk.max-rows:1000}") int maxRows) {
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.rowReader = objectMapper.readerFor(JobPostRequestDto.class);
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+    }
+
+    // JSON 배열을 요소 단위로 읽는다. 필드 형식이 잘못된 요소는 그 행만 실패로 기록한다.
+    public JobPostBulkImportResponseDto importJson(InputStream body, User user) throws IOException {
+        List<JobPostRequestDto> rows = new ArrayList<>();
+        List<String> parseErrors = new ArrayList<>();
+
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidArgumentException("JSON 배열이어야 합니다.");
+            }
+
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new InvalidArgumentException("JSON 배열이 끝나지 않았습니다.");
+                }
+                checkRowLimit(rows.size());
+
+                JsonNode node = parser.readValueAsTree();
+                addRow(rows, parseErrors, () -> node == null || node.isNull() ? null : rowReader.readValue(node));
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidArgumentException(INVALID_ROW);
+        }
+
+        return importRows(rows, parseErrors, user);
+    }
+
+    // NDJSON 은 한 줄씩 파싱하므로 잘못된 줄이 있어도 나머지 줄은 저장된다.
+    public JobPostBulkImportResponseDto importNdjson(InputStream body, User user) throws IOException {
+        List<JobPostRequestDto> rows = new ArrayList<>();
+        List<String> parseErrors = new ArrayList<>();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            checkRowLimit(rows.size());
+
+            String row = line;
+            addRow(rows, parseErrors, () -> rowReader.readValue(row));
+        }
+
+        return importRows(rows, parseErrors, user);
+    }
+
+    private void checkRowLimit(int rows) {
+        if (rows >= maxRows) {
+            throw new InvalidArgumentException("한 번에 " + maxRows + "건까지 등록할 수 있습니다.");
+        }
+    }
+
+    private void addRow(List<JobPostRequestDto> rows, List<String> parseErrors, RowParser parser) throws IOException {
+        try {
+            rows.add(parser.parse());
+            parseErrors.add(null);
+        } catch (JsonProcessingException e) {
+            rows.add(null);
+            parseErrors.add(INVALID_ROW);
+        }
+    }
+
+    private JobPostBulkImportResponseDto importRows(List<JobPostRequestDto> rows, List<String> parseErrors, User user) {
+        if (rows.isEmpty()) {
+            throw new InvalidArgumentException("등록할 공고가 없습니다.");
+        }
+        return transactionTemplate.execute(status -> saveRows(rows, parseErrors, user));
+    }
+
+    private JobPostBulkImportResponseDto saveRows(List<JobPostRequestDto> rows, List<String> parseErrors, User user) {
+        long startedAt = System.nanoTime();
+        JobPostBulkImportRowResultDto[] results = new JobPostBulkImportRowResultDto[rows.size()];
+        List<Integer> pendingIndexes = new ArrayList<>(batchSize);
+        List<JobPost> pending = new ArrayList<>(batchSize);
+        int succeeded = 0;
+
+        for (int i = 0; i < rows.size(); i++) {
+            JobPostRequestDto row = rows.get(i);
+            String error = parseErrors.get(i) != null ? parseErrors.get(i) : validate(row);
+
+            if (error != null) {
+                results[i] = JobPostBulkImportRowResultDto.failure(i, error);
+                continue;
+            }
+
+            JobPost jobPost = JobPost.builder()
+                .companyName(row.getCompanyName())
+                .title(row.getTitle())
+                .description(row.getDescription())
+                .applyUrl(row.getApplyUrl())
+                .closingDateTime(row.getClosingDateTime())
+                .status(row.getStatus() != null ? row.getStatus() : JobStatus.SAVED)
+                .user(entityManager.getReference(User.class, user.getId()))
+                .build();
+            entityManager.persist(jobPost);
+            pending.add(jobPost);
+            pendingIndexes.add(i);
+            succeeded++;
+
+            if (pending.size() >= batchSize) {
+                flush(pending, pendingIndexes, results, user);
+            }
+        }
+        flush(pending, pendingIndexes, results, user);
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        return JobPostBulkImportResponseDto.builder()
+            .total(rows.size())
+            .succeeded(succeeded)
+            .failed(rows.size() - succeeded)
+            .elapsedMillis(elapsedNanos / 1_000_000)
+            .rowsPerSecond(elapsedNanos == 0 ? 0 : succeeded * 1_000_000_000.0 / elapsedNanos)
+            .results(List.of(results))
+            .build();
+    }
+
+    // 영속성 컨텍스트가 요청 크기만큼 커지지 않도록 배치마다 비운다. 이벤트는 커밋 이후에 처리된다.
+    private void flush(List<JobPost> pending, List<Integer> pendingIndexes, JobPostBulkImportRowResultDto[] results, User user) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        entityManager.flush();
+        for (int i = 0; i < pending.size(); i++) {
+            JobPost jobPost = pending.get(i);
+            results[pendingIndexes.get(i)] = JobPostBulkImportRowResultDto.success(pendingIndexes.get(i), jobPost.getId());
+            eventPublisher.publishEvent(new JobPostChangedEvent(JobPostChangedEvent.Type.CREATED, user.getId(), jobPost));
+        }
+        entityManager.clear();
+
+        pending.clear();
+        pendingIndexes.clear();
+    }
+
+    private String validate(JobPostRequestDto row) {
+        if (row == null) {
+            return "빈 행입니다.";
+        }
+        if (row.getCompanyName() == null || row.getCompanyName().isBlank()) {
+            return "companyName 은 필수입니다.";
+        }
+        if (row.getTitle() == null || row.getTitle().isBlank()) {
+            return "title 은 필수입니다.";
+        }
+        if (row.getCompanyName().length() > 128 || row.getTitle().length() > 128) {
+            return "companyName, title 은 128자 이하여야 합니다.";
+        }
+        if (row.getDescription() != null && row.getDescription().length() > 4096) {
+            return "description 은 4096자 이하여야 합니다.";
+        }
+        return null;
+    }
+
+    @FunctionalInterface
+    private interface RowParser {
+        JobPostRequestDto parse() throws IOException;
+    }
+}
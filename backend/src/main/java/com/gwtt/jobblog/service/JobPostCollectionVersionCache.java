@@ -0,0 +1,69 @@
+package com.gwtt.jobblog.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.gwtt.jobblog.dto.JobPostCollectionVersion;
+import com.gwtt.jobblog.event.JobPostChangedEvent;
+import com.gwtt.jobblog.event.JobPostsStatusChangedEvent;
+import com.gwtt.jobblog.repository.JobPostRepository;
+
+// 사용자별 공고 목록 버전(/my, /search ETag). 요청마다 COUNT/MAX(updatedAt) 를 실행하지 않도록 메모리에 둔다.
+// 처음 조회할 때 한 번 계산하고, 이후에는 생성/수정/삭제와 일괄 상태 변경 이벤트로 갱신한다.
+// 삭제는 남은 공고의 MAX(updatedAt) 를 알 수 없으므로 삭제 시각을 lastModifiedAt 으로 쓴다. 버전이 바뀌기만 하면 되므로 DB 값과 달라도 된다.
+// 이벤트를 받지 못하는 다른 인스턴스의 변경은 expire-after-write 가 지나 다시 계산할 때 반영된다.
+@Component
+public class JobPostCollectionVersionCache {
+    private final LoadingCache<Long, JobPostCollectionVersion> versions;
+
+    public JobPostCollectionVersionCache(JobPostRepository jobPostRepository,
+                                         @Value("${jobpost.collection-version.max-users:10000}") long maxUsers,
+                                         @Value("${jobpost.collection-version.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.versions = Caffeine.newBuilder()
+            .maximumSize(maxUsers)
+            .expireAfterWrite(expireAfterWrite)
+            .build(jobPostRepository::findCollectionVersionByUserId);
+    }
+
+    public JobPostCollectionVersion get(Long userId) {
+        return versions.get(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostChanged(JobPostChangedEvent event) {
+        LocalDateTime modifiedAt = switch (event.getType()) {
+            case CREATED, UPDATED -> event.getJobPost().getUpdatedAt();
+            case DELETED -> null;
+        };
+        long delta = switch (event.getType()) {
+            case CREATED -> 1;
+            case UPDATED -> 0;
+            case DELETED -> -1;
+        };
+
+        bump(event.getUserId(), delta, modifiedAt);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostsStatusChanged(JobPostsStatusChangedEvent event) {
+        bump(event.getUserId(), 0, event.getUpdatedAt());
+    }
+
+    // 시각을 모르면 지금 시각을 쓴다. 같은 시각에 두 번 바뀌어도 버전이 달라지도록 lastModifiedAt 은 항상 앞으로만 움직인다.
+    private void bump(Long userId, long delta, LocalDateTime modifiedAt) {
+        LocalDateTime at = modifiedAt != null ? modifiedAt : LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        versions.asMap().computeIfPresent(userId, (id, version) -> {
+            LocalDateTime last = version.getLastModifiedAt();
+            return new JobPostCollectionVersion(version.getCount() + delta,
+                last == null || at.isAfter(last) ? at : last.plus(1, ChronoUnit.MICROS));
+        });
+    }
+}
@@ -0,0 +1,222 @@
+package com.gwtt.jobblog.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.gwtt.jobblog.dto.JobPostEventDto;
+import com.gwtt.jobblog.dto.JobPostSimpleResponseDto;
+import com.gwtt.jobblog.event.JobPostChangedEvent;
+import com.gwtt.jobblog.event.JobPostsStatusChangedEvent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+// 사용자별 SSE 구독자에게 공고 변경을 보낸다.
+// 구독자마다 크기가 정해진 큐를 두고, 보내기는 공유 실행기(가상 스레드)가 구독자당 한 번에 하나씩 맡는다.
+// 연결을 유지하는 동안에는 어떤 스레드도 점유하지 않는다.
+// 느린 구독자의 큐가 가득 차면 쌓인 알림을 버리고 resync 이벤트를 보내 목록을 다시 읽게 한다.
+@Slf4j
+@Component
+public class JobPostEventBroadcaster implements MeterBinder, DisposableBean {
+    private final int bufferSize;
+    private final Duration timeout;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("jobpost-events-", 0).factory());
+    private final ScheduledExecutorService heartbeat;
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder resyncCount = new LongAdder();
+
+    public JobPostEventBroadcaster(@Value("${jobpost.events.buffer-size:64}") int bufferSize,
+                                   @Value("${jobpost.events.heartbeat-interval:15s}") Duration heartbeatInterval,
+                                   @Value("${jobpost.events.timeout:30m}") Duration timeout) {
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jobpost-events-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeat.scheduleAtFixedRate(this::heartbeat,
+            heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        return register(userId, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter register(Long userId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(userId, emitter, bufferSize);
+        subscribers.compute(userId, (id, set) -> {
+            Set<Subscriber> result = set != null ? set : new CopyOnWriteArraySet<>();
+            result.add(subscriber);
+            return result;
+        });
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // 응답 헤더가 바로 나가도록 연결 직후 한 번 보낸다.
+        subscriber.heartbeatDue.set(true);
+        schedule(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostChanged(JobPostChangedEvent event) {
+        JobPostEventDto.Type type = JobPostEventDto.Type.valueOf(event.getType().name());
+        publish(event.getUserId(), JobPostEventDto.builder()
+            .type(type)
+            .ids(List.of(event.getJobPost().getId()))
+            .jobPost(type == JobPostEventDto.Type.DELETED ? null : JobPostSimpleResponseDto.of(event.getJobPost()))
+            .build());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostsStatusChanged(JobPostsStatusChangedEvent event) {
+        publish(event.getUserId(), JobPostEventDto.builder()
+            .type(JobPostEventDto.Type.STATUS_CHANGED)
+            .ids(List.copyOf(event.getIds()))
+            .status(event.getStatus())
+            .updatedAt(event.getUpdatedAt())
+            .build());
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void publish(Long userId, JobPostEventDto event) {
+        Set<Subscriber> targets = subscribers.get(userId);
+        if (targets == null) {
+            return;
+        }
+
+        for (Subscriber subscriber : targets) {
+            if (!subscriber.queue.offer(event)) {
+                // 쌓인 알림은 의미가 없으므로 버리고 다시 읽으라고 알린다.
+                subscriber.queue.clear();
+                subscriber.resync.set(true);
+                resyncCount.increment();
+            }
+            schedule(subscriber);
+        }
+    }
+
+    private void heartbeat() {
+        for (Set<Subscriber> set : subscribers.values()) {
+            for (Subscriber subscriber : set) {
+                subscriber.heartbeatDue.set(true);
+                schedule(subscriber);
+            }
+        }
+    }
+
+    // 구독자당 보내는 작업은 하나만 돌게 해서 순서를 지키고 SseEmitter 를 동시에 쓰지 않는다.
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(subscriber));
+            } catch (RuntimeException e) {
+                subscriber.draining.set(false);
+                log.debug("Event sender rejected task", e);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                if (subscriber.resync.getAndSet(false)) {
+                    subscriber.emitter.send(SseEmitter.event()
+                        .id(String.valueOf(sequence.incrementAndGet()))
+                        .name("resync")
+                        .data(Map.of()));
+                }
+
+                JobPostEventDto event;
+                while (!subscriber.resync.get() && (event = subscriber.queue.poll()) != null) {
+                    subscriber.emitter.send(SseEmitter.event()
+                        .id(String.valueOf(sequence.incrementAndGet()))
+                        .name("jobpost")
+                        .data(event));
+                }
+
+                if (subscriber.heartbeatDue.getAndSet(false)) {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+
+                subscriber.draining.set(false);
+            } while (subscriber.hasPending() && subscriber.draining.compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊겼거나 이미 완료된 구독. 연결 정리는 컨테이너의 오류 콜백이 맡는다.
+            subscriber.draining.set(false);
+            remove(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jobpost.events.subscribers", this, JobPostEventBroadcaster::getSubscriberCount)
+            .register(registry);
+        FunctionCounter.builder("jobpost.events.resyncs", resyncCount, LongAdder::sum)
+            .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        heartbeat.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+        sender.shutdownNow();
+    }
+
+    private static final class Subscriber {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<JobPostEventDto> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean resync = new AtomicBoolean();
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+
+        private Subscriber(Long userId, SseEmitter emitter, int bufferSize) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private boolean hasPending() {
+            return resync.get() || heartbeatDue.get() || !queue.isEmpty();
+        }
+    }
+}
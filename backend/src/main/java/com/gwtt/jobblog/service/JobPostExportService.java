@@ -0,0 +1,133 @@
+package com.gwtt.jobblog.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gwtt.jobblog.domain.JobPost;
+import com.gwtt.jobblog.dto.JobPostExportDto;
+import com.gwtt.jobblog.dto.JobPostExportFormat;
+import com.gwtt.jobblog.repository.JobPostRepository;
+
+import jakarta.persistence.EntityManager;
+
+// 공고를 한 건씩 읽어 바로 쓰고 flush-interval 마다 응답으로 내보낸다.
+// 결과를 fetchSize 단위로 받아 메모리 사용량이 공고 수와 무관하려면 MySQL 은 useCursorFetch=true 가 필요하다.
+// 이 설정이 없으면 Connector/J 가 쿼리 결과 전체를 먼저 받아 둔다.
+@Service
+public class JobPostExportService {
+    private static final String[] CSV_HEADER = {
+        "id", "companyName", "title", "description", "applyUrl", "closingDateTime", "status", "createdAt", "updatedAt"
+    };
+
+    private final JobPostRepository jobPostRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int flushInterval;
+
+    public JobPostExportService(JobPostRepository jobPostRepository,
+                                EntityManager entityManager,
+                                ObjectMapper objectMapper,
+                                @Value("${jobpost.export.flush-interval:100}") int flushInterval) {
+        this.jobPostRepository = jobPostRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.flushInterval = flushInterval;
+    }
+
+    @Transactional(readOnly = true)
+    public void export(Long userId, JobPostExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        if (format == JobPostExportFormat.CSV) {
+            writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM 을 붙인다.
+            writeCsvRow(writer, CSV_HEADER);
+        }
+
+        try (Stream<JobPost> jobPosts = jobPostRepository.streamAllByUserId(userId)) {
+            Iterator<JobPost> iterator = jobPosts.iterator();
+            int written = 0;
+
+            while (iterator.hasNext()) {
+                JobPost jobPost = iterator.next();
+                JobPostExportDto row = JobPostExportDto.of(jobPost);
+                entityManager.detach(jobPost);
+
+                if (format == JobPostExportFormat.CSV) {
+                    writeCsvRow(writer, toCsvColumns(row));
+                } else {
+                    writer.write(toJson(row));
+                    writer.write('\n');
+                }
+
+                if (++written % flushInterval == 0) {
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+        }
+
+        writer.flush();
+    }
+
+    private String toJson(JobPostExportDto row) {
+        try {
+            return objectMapper.writeValueAsString(row);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String[] toCsvColumns(JobPostExportDto row) {
+        return new String[] {
+            String.valueOf(row.getId()),
+            row.getCompanyName(),
+            row.getTitle(),
+            row.getDescription(),
+            row.getApplyUrl(),
+            row.getClosingDateTime() != null ? row.getClosingDateTime().toString() : null,
+            row.getStatus() != null ? row.getStatus().name() : null,
+            row.getCreatedAt() != null ? row.getCreatedAt().toString() : null,
+            row.getUpdatedAt() != null ? row.getUpdatedAt().toString() : null
+        };
+    }
+
+    private static void writeCsvRow(Writer writer, String[] columns) throws IOException {
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(columns[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180 인용 규칙에 더해, 스프레드시트 수식으로 해석될 수 있는 값은 앞에 ' 를 붙인다.
+    static String escapeCsv(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            value = "'" + value;
+        }
+
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,304 @@
+package com.gwtt.jobblog.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gwtt.jobblog.domain.JobStatus;
+import com.gwtt.jobblog.dto.JobPostSimpleResponseDto;
+import com.gwtt.jobblog.event.JobPostChangedEvent;
+import com.gwtt.jobblog.event.JobPostsStatusChangedEvent;
+import com.gwtt.jobblog.repository.JobPostRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 사용자별 [createdAt, closingDateTime] 구간 인덱스. 달력 조회를 O(log n + k) 로 처리한다.
+// 최초 조회 시 DB 에서 적재하고, 이후에는 JobPostChangedEvent 로 공고 하나당 O(log n) 에 갱신한다.
+@Slf4j
+@Component
+public class JobPostIntervalIndex {
+    private final JobPostRepository jobPostRepository;
+    private final boolean enabled;
+    private final Cache<Long, IntervalTree> trees;
+
+    public JobPostIntervalIndex(JobPostRepository jobPostRepository,
+                                @Value("${jobpost.interval-index.enabled:true}") boolean enabled,
+                                @Value("${jobpost.interval-index.max-users:10000}") long maxUsers,
+                                @Value("${jobpost.interval-index.expire-after-access:30m}") Duration expireAfterAccess) {
+        this.jobPostRepository = jobPostRepository;
+        this.enabled = enabled;
+        this.trees = Caffeine.newBuilder()
+            .maximumSize(maxUsers)
+            .expireAfterAccess(expireAfterAccess)
+            .build();
+    }
+
+    // 인덱스를 사용할 수 없으면 비어 있는 값을 반환하고, 호출자는 DB 로 조회한다.
+    public Optional<List<JobPostSimpleResponseDto>> search(Long userId, LocalDateTime start, LocalDateTime end) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(trees.get(userId, this::load).overlapping(start, end));
+        } catch (RuntimeException e) {
+            log.warn("Interval index lookup failed for user {}, falling back to DB", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    // 적재 중인 사용자에 대한 갱신은 compute 로 직렬화되므로 적재 결과 위에 반영된다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostChanged(JobPostChangedEvent event) {
+        Long id = event.getJobPost().getId();
+
+        if (event.getType() == JobPostChangedEvent.Type.DELETED) {
+            trees.asMap().computeIfPresent(event.getUserId(), (userId, tree) -> tree.remove(id));
+        } else {
+            JobPostSimpleResponseDto jobPost = JobPostSimpleResponseDto.of(event.getJobPost());
+            trees.asMap().computeIfPresent(event.getUserId(), (userId, tree) -> tree.put(jobPost));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostsStatusChanged(JobPostsStatusChangedEvent event) {
+        trees.asMap().computeIfPresent(event.getUserId(),
+            (userId, tree) -> tree.withStatus(event.getIds(), event.getStatus(), event.getUpdatedAt()));
+    }
+
+    private IntervalTree load(Long userId) {
+        return IntervalTree.of(jobPostRepository.findAllSimpleByUserId(userId));
+    }
+
+    // (createdAt, id) 순서의 트립(treap). 각 노드는 서브트리의 최대 closingDateTime 을 가진다.
+    // 추가/삭제는 O(log n) 이고 트리 전체를 다시 만들지 않는다. 조회와 변경은 읽기/쓰기 잠금으로 나눈다.
+    // 노드는 id 로도 찾으므로 이벤트의 createdAt 정밀도가 적재한 값과 달라도 기존 노드를 지운다.
+    static final class IntervalTree {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<Long, Node> nodes = new HashMap<>();
+        private Node root;
+
+        private IntervalTree() {
+        }
+
+        static IntervalTree of(List<JobPostSimpleResponseDto> jobPosts) {
+            IntervalTree tree = new IntervalTree();
+            for (JobPostSimpleResponseDto jobPost : jobPosts) {
+                tree.put(jobPost);
+            }
+            return tree;
+        }
+
+        IntervalTree put(JobPostSimpleResponseDto jobPost) {
+            lock.writeLock().lock();
+            try {
+                unlink(jobPost.getId());
+                // 구간을 만들 수 없는 공고는 어떤 조회에도 걸리지 않으므로 넣지 않는다.
+                if (jobPost.getCreatedAt() != null && jobPost.getClosingDateTime() != null) {
+                    Node node = new Node(jobPost, ThreadLocalRandom.current().nextInt());
+                    nodes.put(jobPost.getId(), node);
+                    root = insert(root, node);
+                }
+                return this;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        IntervalTree remove(Long id) {
+            lock.writeLock().lock();
+            try {
+                unlink(id);
+                return this;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        // 구간은 그대로이므로 노드 값만 바꾼다. O(k)
+        IntervalTree withStatus(Collection<Long> ids, JobStatus status, LocalDateTime updatedAt) {
+            lock.writeLock().lock();
+            try {
+                for (Long id : ids) {
+                    Node node = nodes.get(id);
+                    if (node != null) {
+                        JobPostSimpleResponseDto jobPost = node.jobPost;
+                        node.jobPost = new JobPostSimpleResponseDto(jobPost.getId(), jobPost.getCompanyName(),
+                            jobPost.getTitle(), status, jobPost.getClosingDateTime(), jobPost.getCreatedAt(), updatedAt);
+                    }
+                }
+                return this;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        // closingDateTime >= start AND createdAt <= end
+        List<JobPostSimpleResponseDto> overlapping(LocalDateTime start, LocalDateTime end) {
+            lock.readLock().lock();
+            try {
+                List<JobPostSimpleResponseDto> result = new ArrayList<>();
+                collect(root, start, end, result);
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return nodes.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void unlink(Long id) {
+            Node node = nodes.remove(id);
+            if (node != null) {
+                root = delete(root, node);
+            }
+        }
+
+        private static Node insert(Node node, Node item) {
+            if (node == null) {
+                return item;
+            }
+            if (item.priority > node.priority) {
+                Node[] parts = split(node, item);
+                item.left = parts[0];
+                item.right = parts[1];
+                item.update();
+                return item;
+            }
+            if (item.compareTo(node) < 0) {
+                node.left = insert(node.left, item);
+            } else {
+                node.right = insert(node.right, item);
+            }
+            node.update();
+            return node;
+        }
+
+        // key 보다 앞선 노드와 뒤선 노드로 나눈다. key 는 트리에 없다.
+        private static Node[] split(Node node, Node key) {
+            if (node == null) {
+                return new Node[2];
+            }
+            if (node.compareTo(key) < 0) {
+                Node[] parts = split(node.right, key);
+                node.right = parts[0];
+                node.update();
+                parts[0] = node;
+                return parts;
+            }
+            Node[] parts = split(node.left, key);
+            node.left = parts[1];
+            node.update();
+            parts[1] = node;
+            return parts;
+        }
+
+        private static Node delete(Node node, Node target) {
+            if (node == null) {
+                return null;
+            }
+            if (node == target) {
+                return merge(node.left, node.right);
+            }
+            if (target.compareTo(node) < 0) {
+                node.left = delete(node.left, target);
+            } else {
+                node.right = delete(node.right, target);
+            }
+            node.update();
+            return node;
+        }
+
+        private static Node merge(Node left, Node right) {
+            if (left == null) {
+                return right;
+            }
+            if (right == null) {
+                return left;
+            }
+            if (left.priority > right.priority) {
+                left.right = merge(left.right, right);
+                left.update();
+                return left;
+            }
+            right.left = merge(left, right.left);
+            right.update();
+            return right;
+        }
+
+        private static void collect(Node node, LocalDateTime start, LocalDateTime end, List<JobPostSimpleResponseDto> result) {
+            if (node == null || node.maxEnd.isBefore(start)) {
+                return;
+            }
+
+            collect(node.left, start, end, result);
+
+            if (node.createdAt.isAfter(end)) {
+                return;
+            }
+            if (!node.closingDateTime.isBefore(start)) {
+                result.add(node.jobPost);
+            }
+
+            collect(node.right, start, end, result);
+        }
+
+        private static final class Node implements Comparable<Node> {
+            // 정렬 키와 구간은 노드를 만들 때 고정한다. 바뀌면 지우고 다시 넣는다.
+            private final LocalDateTime createdAt;
+            private final LocalDateTime closingDateTime;
+            private final Long id;
+            private final int priority;
+            private JobPostSimpleResponseDto jobPost;
+            private Node left;
+            private Node right;
+            private LocalDateTime maxEnd;
+
+            private Node(JobPostSimpleResponseDto jobPost, int priority) {
+                this.createdAt = jobPost.getCreatedAt();
+                this.closingDateTime = jobPost.getClosingDateTime();
+                this.id = jobPost.getId();
+                this.priority = priority;
+                this.jobPost = jobPost;
+                this.maxEnd = closingDateTime;
+            }
+
+            private void update() {
+                LocalDateTime max = closingDateTime;
+                if (left != null && left.maxEnd.isAfter(max)) {
+                    max = left.maxEnd;
+                }
+                if (right != null && right.maxEnd.isAfter(max)) {
+                    max = right.maxEnd;
+                }
+                maxEnd = max;
+            }
+
+            @Override
+            public int compareTo(Node other) {
+                int result = createdAt.compareTo(other.createdAt);
+                return result != 0 ? result : id.compareTo(other.id);
+            }
+        }
+    }
+}
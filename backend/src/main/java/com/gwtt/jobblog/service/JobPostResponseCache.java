@@ -0,0 +1,107 @@
+package com.gwtt.jobblog.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.gwtt.jobblog.datasource.ReplicaLagGuard;
+import com.gwtt.jobblog.dto.JobPostResponseDto;
+import com.gwtt.jobblog.event.JobPostChangedEvent;
+import com.gwtt.jobblog.event.JobPostsStatusChangedEvent;
+import com.gwtt.jobblog.util.ETags;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// GET /job-posts/{id} 의 직렬화된 응답 캐시. 같은 키의 동시 조회는 한 번만 로드한다(single-flight).
+// 수정/삭제 이벤트로 해당 id 만 무효화한다.
+@Component
+public class JobPostResponseCache implements MeterBinder {
+    private final JobPostService jobPostService;
+    private final ObjectMapper objectMapper;
+    private final ReplicaLagGuard replicaLagGuard;
+    private final LoadingCache<Long, CachedJobPost> cache;
+
+    public JobPostResponseCache(JobPostService jobPostService,
+                                ObjectMapper objectMapper,
+                                ReplicaLagGuard replicaLagGuard,
+                                @Value("${jobpost.response-cache.max-size:64MB}") DataSize maxSize,
+                                @Value("${jobpost.response-cache.ttl:10m}") Duration ttl) {
+        this.jobPostService = jobPostService;
+        this.objectMapper = objectMapper;
+        this.replicaLagGuard = replicaLagGuard;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxSize.toBytes())
+            .weigher((Long id, CachedJobPost cached) -> cached.getBody().length)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build(this::load);
+    }
+
+    public CachedJobPost getIfPresent(Long id) {
+        return cache.getIfPresent(id);
+    }
+
+    public CachedJobPost get(Long id) {
+        return cache.get(id);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    // cache.gets, cache.evictions, cache.load.duration 등으로 적중률과 로드 시간을 노출한다.
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "jobPostResponse");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostChanged(JobPostChangedEvent event) {
+        if (event.getType() != JobPostChangedEvent.Type.CREATED) {
+            cache.invalidate(event.getJobPost().getId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostsStatusChanged(JobPostsStatusChangedEvent event) {
+        cache.invalidateAll(event.getIds());
+    }
+
+    // 캐시된 응답은 TTL 동안 유지되므로, 방금 수정된 공고는 복제 지연이 없는 primary 에서 읽는다.
+    private CachedJobPost load(Long id) throws JsonProcessingException {
+        JobPostResponseDto jobPost = replicaLagGuard.isRecentlyWritten(id)
+            ? replicaLagGuard.onPrimary(() -> jobPostService.getJobPost(id))
+            : jobPostService.getJobPost(id);
+        long lastModified = jobPost.getUpdatedAt() != null ? ETags.toEpochMilli(jobPost.getUpdatedAt()) : -1;
+
+        return new CachedJobPost(
+            objectMapper.writeValueAsBytes(jobPost),
+            ETags.forJobPost(jobPost.getId(), jobPost.getUpdatedAt()),
+            lastModified);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CachedJobPost {
+        private final byte[] body;
+        private final String eTag;
+        private final long lastModified;
+    }
+}
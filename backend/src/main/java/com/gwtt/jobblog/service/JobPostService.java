@@ -3,25 +3,59 @@ package com.gwtt.jobblog.service;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.gwtt.jobblog.domain.JobPost;
+import com.gwtt.jobblog.domain.JobStatus;
 import com.gwtt.jobblog.domain.User;
+import com.gwtt.jobblog.dto.CursorPageResponseDto;
+import com.gwtt.jobblog.dto.JobPostCursor;
+import com.gwtt.jobblog.dto.JobPostExpiryResult;
+import com.gwtt.jobblog.dto.JobPostIdStatus;
+import com.gwtt.jobblog.dto.JobPostOwner;
 import com.gwtt.jobblog.dto.JobPostRequestDto;
 import com.gwtt.jobblog.dto.JobPostResponseDto;
 import com.gwtt.jobblog.dto.JobPostSimpleResponseDto;
+import com.gwtt.jobblog.dto.JobPostStatusUpdateRequestDto;
+import com.gwtt.jobblog.dto.JobPostStatusUpdateResponseDto;
+import com.gwtt.jobblog.event.JobPostChangedEvent;
+import com.gwtt.jobblog.event.JobPostsStatusChangedEvent;
+import com.gwtt.jobblog.exceptions.InvalidArgumentException;
 import com.gwtt.jobblog.repository.JobPostRepository;
 
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class JobPostService {
+    private static final int MAX_STATUS_UPDATE_SIZE = 100;
+
     private final JobPostRepository jobPostRepository;
+    private final JobPostIntervalIndex jobPostIntervalIndex;
+    private final JobPostTextIndex jobPostTextIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
+    // 상태를 보내지 않으면 일괄 등록(JobPostBulkImportService)과 같이 SAVED 로 저장한다.
     public Long createJobPost(JobPostRequestDto jobPostRequest, User user) {
         JobPost jobPost = JobPost.builder()
             .companyName(jobPostRequest.getCompanyName())
@@ -29,30 +63,78 @@ public class JobPostService {
             .description(jobPostRequest.getDescription())
             .applyUrl(jobPostRequest.getApplyUrl())
             .closingDateTime(jobPostRequest.getClosingDateTime())
-            .status(jobPostRequest.getStatus())
+            .status(jobPostRequest.getStatus() != null ? jobPostRequest.getStatus() : JobStatus.SAVED)
             .user(user)
             .build();
-        return jobPostRepository.save(jobPost).getId();
+
+        JobPost saved = jobPostRepository.save(jobPost);
+        eventPublisher.publishEvent(new JobPostChangedEvent(JobPostChangedEvent.Type.CREATED, user.getId(), saved));
+        return saved.getId();
     }
 
+    @Transactional(readOnly = true)
     public JobPostResponseDto getJobPost(Long id) {
         JobPost jobPost = jobPostRepository.findWithUserById(id)
             .orElseThrow(() -> new RuntimeException("해당 공고를 찾지 못했습니다."));
         return JobPostResponseDto.of(jobPost);
     }
 
-    public List<JobPostSimpleResponseDto> getJobPostsByUser(Long userId) {
-        return jobPostRepository.findAllByUser_Id(userId).stream()
-            .map(JobPostSimpleResponseDto::of)
-            .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> getJobPostVersion(Long id) {
+        return jobPostRepository.findUpdatedAtById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<JobPostSimpleResponseDto> getJobPostsByUser(Long userId, String cursor, int limit) {
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회한다.
+        PageRequest pageRequest = PageRequest.ofSize(limit + 1);
+
+        List<JobPostSimpleResponseDto> jobPosts;
+        if (cursor == null) {
+            jobPosts = jobPostRepository.findFirstPageByUserId(userId, pageRequest);
+        } else {
+            JobPostCursor after = JobPostCursor.decode(cursor);
+            jobPosts = jobPostRepository.findPageByUserIdAfter(userId, after.getCreatedAt(), after.getId(), pageRequest);
+        }
+
+        boolean hasNext = jobPosts.size() > limit;
+        List<JobPostSimpleResponseDto> page = hasNext ? jobPosts.subList(0, limit) : jobPosts;
+
+        String nextCursor = null;
+        if (hasNext) {
+            JobPostSimpleResponseDto last = page.get(page.size() - 1);
+            nextCursor = new JobPostCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorPageResponseDto.<JobPostSimpleResponseDto>builder()
+            .items(page)
+            .nextCursor(nextCursor)
+            .hasNext(hasNext)
+            .build();
     }
 
+    @Transactional(readOnly = true)
     public List<JobPostSimpleResponseDto> searchJobPosts(LocalDate from, LocalDate to, User user) {
         LocalDateTime startDateTime = from != null ? from.atStartOfDay() : LocalDateTime.MIN;
         LocalDateTime endDateTime = to != null ? to.atTime(LocalTime.MAX) : LocalDateTime.MAX;
 
-        return jobPostRepository.searchOverlappingJobPosts(user.getId(), startDateTime, endDateTime).stream()
-            .map(JobPostSimpleResponseDto::of)
+        return jobPostIntervalIndex.search(user.getId(), startDateTime, endDateTime)
+            .orElseGet(() -> jobPostRepository.searchOverlappingJobPosts(user.getId(), startDateTime, endDateTime));
+    }
+
+    @Transactional(readOnly = true)
+    public List<JobPostSimpleResponseDto> searchJobPostsByText(String query, int limit, User user) {
+        List<Long> rankedIds = jobPostTextIndex.search(user.getId(), query, limit);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, JobPostSimpleResponseDto> jobPosts = jobPostRepository.findAllSimpleByIdInAndUserId(rankedIds, user.getId()).stream()
+            .collect(Collectors.toMap(JobPostSimpleResponseDto::getId, Function.identity()));
+
+        return rankedIds.stream()
+            .map(jobPosts::get)
+            .filter(Objects::nonNull)
             .collect(Collectors.toList());
     }
 
@@ -64,8 +146,12 @@ public class JobPostService {
             throw new RuntimeException("해당 공고를 수정할 권한이 없습니다.");
         }
 
+        JobStatus previousStatus = jobPost.getStatus();
+        LocalDateTime previousAppliedAt = jobPost.getAppliedAt();
+
         jobPost.update(jobPostRequest);
-        jobPostRepository.save(jobPost);
+        JobPost saved = jobPostRepository.save(jobPost);
+        eventPublisher.publishEvent(new JobPostChangedEvent(JobPostChangedEvent.Type.UPDATED, user.getId(), saved, previousStatus, previousAppliedAt));
     }
 
     public void deleteJobPost(Long id, User user) {
@@ -77,5 +163,98 @@ public class JobPostService {
         }
 
         jobPostRepository.delete(jobPost);
+        eventPublisher.publishEvent(new JobPostChangedEvent(JobPostChangedEvent.Type.DELETED, user.getId(), jobPost));
+    }
+
+    // 여러 공고의 상태를 한 번에 바꾼다. 공고마다 조회/merge/update 하지 않고
+    // 바꿀 공고와 이전 상태 조회 한 번, 소유자 조건을 넣은 UPDATE 한 번으로 처리한다.
+    // 없는 공고, 다른 사용자의 공고, 이미 같은 상태인 공고는 오류 없이 결과에서 빠진다.
+    @Transactional
+    public JobPostStatusUpdateResponseDto updateJobPostStatus(JobPostStatusUpdateRequestDto request, User user) {
+        if (request.getStatus() == null) {
+            throw new InvalidArgumentException("변경할 상태(status)는 필수입니다.");
+        }
+        List<Long> ids = request.getIds() == null ? List.of() : request.getIds().stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            throw new InvalidArgumentException("변경할 공고 id(ids)는 필수입니다.");
+        }
+        if (ids.size() > MAX_STATUS_UPDATE_SIZE) {
+            throw new InvalidArgumentException("한 번에 " + MAX_STATUS_UPDATE_SIZE + "건까지 변경할 수 있습니다.");
+        }
+
+        JobStatus status = request.getStatus();
+        // 이전 상태는 통계 카운터가 사용한다. 상태가 없는 공고가 있어 toMap 대신 직접 담는다.
+        Map<Long, JobStatus> previousStatuses = new HashMap<>();
+        for (JobPostIdStatus jobPost : jobPostRepository.findStatusesToChange(ids, user.getId(), status)) {
+            previousStatuses.put(jobPost.getId(), jobPost.getStatus());
+        }
+
+        // 벌크 UPDATE 는 감사(@LastModifiedDate)를 거치지 않는다. DB 정밀도에 맞춰 밀리초로 자른다.
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        if (!previousStatuses.isEmpty()) {
+            List<Long> targetIds = List.copyOf(previousStatuses.keySet());
+            int updated = jobPostRepository.updateStatusByIdInAndUserId(targetIds, user.getId(), status, now);
+            evictFromSecondLevelCache(targetIds);
+
+            // 조회 이후 다른 요청이 먼저 같은 상태로 바꾼 공고가 있으면 이번 UPDATE 로 바뀐 것만 남긴다.
+            if (updated != targetIds.size()) {
+                previousStatuses.keySet().retainAll(new HashSet<>(jobPostRepository.findIdsByIdInAndStatusAndUpdatedAt(targetIds, status, now)));
+            }
+        }
+
+        if (!previousStatuses.isEmpty()) {
+            eventPublisher.publishEvent(new JobPostsStatusChangedEvent(user.getId(), previousStatuses, status, now));
+        }
+
+        return JobPostStatusUpdateResponseDto.builder()
+            .updatedIds(ids.stream().filter(previousStatuses::containsKey).collect(Collectors.toList()))
+            .status(status)
+            .updatedAt(now)
+            .build();
+    }
+
+    // 마감이 지난 SAVED 공고를 최대 limit 건 EXPIRED 로 바꾸고 조회한 건수와 바뀐 건수를 반환한다.
+    // 엔티티를 읽지 않고 id 조회 한 번과 UPDATE 한 번으로 처리한다.
+    @Transactional
+    public JobPostExpiryResult expireClosedJobPosts(LocalDateTime now, int limit) {
+        List<JobPostOwner> candidates = jobPostRepository.findOwnersByStatusAndClosingBefore(JobStatus.SAVED, now, PageRequest.ofSize(limit));
+        if (candidates.isEmpty()) {
+            return new JobPostExpiryResult(0, 0);
+        }
+
+        List<Long> ids = candidates.stream().map(JobPostOwner::getId).collect(Collectors.toList());
+        int updated = jobPostRepository.expireByIdIn(ids, now);
+        evictFromSecondLevelCache(ids);
+
+        // 조회 이후 사용자가 먼저 바꾼 공고가 있으면 이번 UPDATE 로 바뀐 것만 다시 확인한다.
+        Set<Long> changed = updated == ids.size()
+            ? new HashSet<>(ids)
+            : new HashSet<>(jobPostRepository.findIdsByIdInAndStatusAndUpdatedAt(ids, JobStatus.EXPIRED, now));
+
+        candidates.stream()
+            .filter(candidate -> changed.contains(candidate.getId()))
+            .collect(Collectors.groupingBy(JobPostOwner::getUserId,
+                Collectors.toMap(JobPostOwner::getId, candidate -> JobStatus.SAVED)))
+            .forEach((userId, previousStatuses) -> eventPublisher.publishEvent(
+                new JobPostsStatusChangedEvent(userId, previousStatuses, JobStatus.EXPIRED, now)));
+
+        return new JobPostExpiryResult(candidates.size(), changed.size());
+    }
+
+    // 네이티브 벌크 UPDATE 는 2차 캐시를 건드리지 않으므로 대상 공고만 직접 뺀다.
+    // 커밋 전에 다른 트랜잭션이 이전 값을 다시 캐시에 올릴 수 있어 커밋 후에 한 번 더 뺀다.
+    private void evictFromSecondLevelCache(List<Long> ids) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        ids.forEach(id -> cache.evict(JobPost.class, id));
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(id -> cache.evict(JobPost.class, id));
+            }
+        });
     }
 }
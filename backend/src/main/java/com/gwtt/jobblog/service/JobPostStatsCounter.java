@@ -0,0 +1,171 @@
+package com.gwtt.jobblog.service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.gwtt.jobblog.domain.JobPost;
+import com.gwtt.jobblog.domain.JobStatus;
+import com.gwtt.jobblog.dto.JobPostStatsResponseDto;
+import com.gwtt.jobblog.dto.JobPostStatusCount;
+import com.gwtt.jobblog.event.JobPostChangedEvent;
+import com.gwtt.jobblog.event.JobPostsStatusChangedEvent;
+import com.gwtt.jobblog.repository.JobPostRepository;
+
+// 사용자별 상태 카운터. 조회는 캐시된 카운터를 그대로 돌려주므로 공고 수와 관계없이 O(1) 이다.
+// 생성/수정/삭제 이벤트마다 compute 로 새 카운터를 만들어 원자적으로 교체한다.
+// 처음 조회할 때 GROUP BY 한 번으로 계산하고, 계산한 지 reconcile-interval 이 지나면 조회 시 백그라운드로 다시 계산해 어긋난 값을 바로잡는다.
+// 재계산 중에 이벤트로 값이 바뀌면 Caffeine 이 재계산 결과를 버리므로 이벤트 반영분을 덮어쓰지 않는다.
+@Component
+public class JobPostStatsCounter {
+    private final JobPostRepository jobPostRepository;
+    private final Duration reconcileInterval;
+    private final LoadingCache<Long, Counters> counters;
+
+    public JobPostStatsCounter(JobPostRepository jobPostRepository,
+                               @Value("${jobpost.stats.max-users:10000}") long maxUsers,
+                               @Value("${jobpost.stats.expire-after-access:30m}") Duration expireAfterAccess,
+                               @Value("${jobpost.stats.reconcile-interval:10m}") Duration reconcileInterval) {
+        this.jobPostRepository = jobPostRepository;
+        this.reconcileInterval = reconcileInterval;
+        this.counters = Caffeine.newBuilder()
+            .maximumSize(maxUsers)
+            .expireAfterAccess(expireAfterAccess)
+            .build(this::load);
+    }
+
+    public JobPostStatsResponseDto getStats(Long userId) {
+        LocalDateTime weekStart = weekStart(LocalDate.now());
+        Counters current = counters.get(userId);
+
+        // 이벤트로 값이 계속 바뀌어도 마지막 재계산 시각을 기준으로 주기적으로 다시 계산한다.
+        if (current.loadedAt.plus(reconcileInterval).isBefore(LocalDateTime.now())) {
+            counters.refresh(userId);
+        }
+
+        if (!current.weekStart.equals(weekStart)) {
+            // 주가 바뀌면 지난주에 지원한 공고는 모두 기준 시각 이전이므로 0 부터 다시 센다.
+            current = counters.asMap().compute(userId,
+                (id, counter) -> counter != null && counter.weekStart.isBefore(weekStart) ? counter.withWeek(weekStart) : counter);
+            if (current == null) {
+                current = counters.get(userId);
+            }
+        }
+
+        return current.toDto();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostChanged(JobPostChangedEvent event) {
+        JobPost jobPost = event.getJobPost();
+
+        counters.asMap().computeIfPresent(event.getUserId(), (userId, counter) -> switch (event.getType()) {
+            case CREATED -> counter.add(jobPost.getStatus(), jobPost.getAppliedAt(), 1);
+            case UPDATED -> counter.add(event.getPreviousStatus(), event.getPreviousAppliedAt(), -1)
+                .add(jobPost.getStatus(), jobPost.getAppliedAt(), 1);
+            case DELETED -> counter.add(jobPost.getStatus(), jobPost.getAppliedAt(), -1);
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostsStatusChanged(JobPostsStatusChangedEvent event) {
+        // APPLIED 에서 바뀐 공고는 이벤트에 appliedAt 이 없어 이번 주 지원 수를 맞출 수 없다. 다음 조회에서 다시 계산한다.
+        if (event.getPreviousStatuses().containsValue(JobStatus.APPLIED)) {
+            counters.invalidate(event.getUserId());
+            return;
+        }
+
+        counters.asMap().computeIfPresent(event.getUserId(), (userId, counter) -> {
+            Counters updated = counter;
+            for (JobStatus previousStatus : event.getPreviousStatuses().values()) {
+                updated = updated.add(previousStatus, null, -1);
+            }
+            // APPLIED 로 바뀐 공고의 appliedAt 은 UPDATE 시각과 같다.
+            return updated.add(event.getStatus(), event.getUpdatedAt(), event.getPreviousStatuses().size());
+        });
+    }
+
+    private Counters load(Long userId) {
+        LocalDateTime weekStart = weekStart(LocalDate.now());
+        long[] byStatus = new long[JobStatus.values().length];
+        long appliedThisWeek = 0;
+
+        for (JobPostStatusCount count : jobPostRepository.countByStatus(userId, weekStart)) {
+            if (count.getStatus() == null) {
+                continue;
+            }
+            byStatus[count.getStatus().ordinal()] = count.getCount();
+            if (count.getStatus() == JobStatus.APPLIED) {
+                appliedThisWeek = count.getAppliedSinceCount();
+            }
+        }
+
+        return new Counters(byStatus, appliedThisWeek, weekStart, LocalDateTime.now());
+    }
+
+    static LocalDateTime weekStart(LocalDate today) {
+        return today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+    }
+
+    // 불변 객체. 바꿀 때마다 새 인스턴스를 만들어야 Caffeine 이 갱신 중 변경을 알아챈다.
+    static final class Counters {
+        private final long[] byStatus;
+        private final long appliedThisWeek;
+        private final LocalDateTime weekStart;
+        private final LocalDateTime loadedAt;
+
+        Counters(long[] byStatus, long appliedThisWeek, LocalDateTime weekStart, LocalDateTime loadedAt) {
+            this.byStatus = byStatus;
+            this.appliedThisWeek = appliedThisWeek;
+            this.weekStart = weekStart;
+            this.loadedAt = loadedAt;
+        }
+
+        // 상태가 없는 공고는 어느 상태로도 세지 않는다.
+        Counters add(JobStatus status, LocalDateTime appliedAt, long delta) {
+            if (status == null) {
+                return this;
+            }
+
+            long[] copy = byStatus.clone();
+            copy[status.ordinal()] += delta;
+            boolean thisWeek = status == JobStatus.APPLIED && appliedAt != null && !appliedAt.isBefore(weekStart);
+            return new Counters(copy, thisWeek ? appliedThisWeek + delta : appliedThisWeek, weekStart, loadedAt);
+        }
+
+        Counters withWeek(LocalDateTime weekStart) {
+            return new Counters(byStatus, 0, weekStart, loadedAt);
+        }
+
+        JobPostStatsResponseDto toDto() {
+            long total = 0;
+            for (long count : byStatus) {
+                total += Math.max(count, 0);
+            }
+
+            return JobPostStatsResponseDto.builder()
+                .saved(count(JobStatus.SAVED))
+                .applied(count(JobStatus.APPLIED))
+                .interviewed(count(JobStatus.INTERVIEWED))
+                .rejected(count(JobStatus.REJECTED))
+                .expired(count(JobStatus.EXPIRED))
+                .total(total)
+                .appliedThisWeek(Math.max(appliedThisWeek, 0))
+                .weekStart(weekStart)
+                .build();
+        }
+
+        // 재계산 전까지 일시적으로 어긋나도 음수는 내보내지 않는다.
+        private long count(JobStatus status) {
+            return Math.max(byStatus[status.ordinal()], 0);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.gwtt.jobblog.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gwtt.jobblog.domain.JobPost;
+import com.gwtt.jobblog.dto.JobPostTextSource;
+import com.gwtt.jobblog.event.JobPostChangedEvent;
+import com.gwtt.jobblog.repository.JobPostRepository;
+import com.gwtt.jobblog.util.TextTokenizer;
+
+import lombok.extern.slf4j.Slf4j;
+
+// companyName, title, description 에 대한 사용자별 역색인.
+// 기동 시 전체 공고를 id 순 배치로 읽어 구축하고, 이후에는 JobPostChangedEvent 로 증분 갱신한다.
+@Slf4j
+@Component
+public class JobPostTextIndex implements SmartInitializingSingleton {
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float COMPANY_NAME_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+
+    private final JobPostRepository jobPostRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean rebuildOnStartup;
+    private final int rebuildBatchSize;
+    private final ConcurrentMap<Long, UserIndex> indexes = new ConcurrentHashMap<>();
+
+    public JobPostTextIndex(JobPostRepository jobPostRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${jobpost.text-index.rebuild-on-startup:true}") boolean rebuildOnStartup,
+                            @Value("${jobpost.text-index.rebuild-batch-size:1000}") int rebuildBatchSize) {
+        this.jobPostRepository = jobPostRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+    // 웹 서버가 요청을 받기 전에 호출되므로 재구축 중 증분 갱신과 경합하지 않는다.
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        Map<Long, UserIndex> rebuilt = new HashMap<>();
+        long count = 0;
+        Long afterId = 0L;
+
+        // 전체 공고를 한 결과셋으로 읽지 않고 id 키셋 배치로 나눠 읽는다. 배치마다 짧은 읽기 트랜잭션을 쓴다.
+        while (true) {
+            Long cursor = afterId;
+            List<JobPostTextSource> rows = transactionTemplate.execute(
+                status -> jobPostRepository.findTextSourcesAfter(cursor, PageRequest.ofSize(rebuildBatchSize)));
+            for (JobPostTextSource row : rows) {
+                rebuilt.computeIfAbsent(row.getUserId(), userId -> new UserIndex())
+                    .put(row.getId(), terms(row.getCompanyName(), row.getTitle(), row.getDescription()));
+            }
+            count += rows.size();
+
+            if (rows.size() < rebuildBatchSize) {
+                break;
+            }
+            afterId = rows.get(rows.size() - 1).getId();
+        }
+
+        indexes.clear();
+        indexes.putAll(rebuilt);
+        log.info("Rebuilt job post text index: {} posts, {} users in {} ms", count, rebuilt.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    // 점수 내림차순으로 정렬된 공고 id 목록을 반환한다.
+    public List<Long> search(Long userId, String query, int limit) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(TextTokenizer.tokenize(query)));
+        UserIndex index = indexes.get(userId);
+
+        if (tokens.isEmpty() || index == null) {
+            return List.of();
+        }
+
+        return index.search(tokens, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostChanged(JobPostChangedEvent event) {
+        JobPost jobPost = event.getJobPost();
+
+        if (event.getType() == JobPostChangedEvent.Type.DELETED) {
+            UserIndex index = indexes.get(event.getUserId());
+            if (index != null) {
+                index.remove(jobPost.getId());
+            }
+            return;
+        }
+
+        indexes.computeIfAbsent(event.getUserId(), userId -> new UserIndex())
+            .put(jobPost.getId(), terms(jobPost.getCompanyName(), jobPost.getTitle(), jobPost.getDescription()));
+    }
+
+    static Map<String, Float> terms(String companyName, String title, String description) {
+        Map<String, Float> terms = new HashMap<>();
+        addTerms(terms, title, TITLE_WEIGHT);
+        addTerms(terms, companyName, COMPANY_NAME_WEIGHT);
+        addTerms(terms, description, DESCRIPTION_WEIGHT);
+        return terms;
+    }
+
+    private static void addTerms(Map<String, Float> terms, String text, float weight) {
+        for (String token : TextTokenizer.tokenize(text)) {
+            terms.merge(token, weight, Float::sum);
+        }
+    }
+
+    // 한 사용자의 역색인. 검색어의 각 토큰은 접두어로 매칭하며, 모든 토큰이 매칭된 문서만 BM25 점수로 정렬한다.
+    // 접두어는 문서 빈도가 높은 MAX_PREFIX_EXPANSIONS 개 단어까지만 확장해 검색 비용의 상한을 둔다.
+    static final class UserIndex {
+        private static final double K1 = 1.2;
+        private static final double B = 0.75;
+        private static final double PREFIX_MATCH_WEIGHT = 0.5;
+        private static final int MAX_PREFIX_EXPANSIONS = 64;
+        private static final int MIN_PREFIX_LENGTH = 2;
+        // 큐의 머리가 가장 먼저 버릴 단어(문서 빈도가 낮고 사전 순으로 뒤)가 되도록 정렬한다.
+        private static final Comparator<Map.Entry<String, Map<Long, Float>>> EXPANSION_ORDER =
+            Comparator.<Map.Entry<String, Map<Long, Float>>>comparingInt(entry -> entry.getValue().size())
+                .thenComparing(Map.Entry::getKey, Comparator.reverseOrder());
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+        private final Map<Long, Map<String, Float>> documents = new HashMap<>();
+        private final Map<Long, Float> lengths = new HashMap<>();
+        private double totalLength;
+
+        void put(Long id, Map<String, Float> terms) {
+            lock.writeLock().lock();
+            try {
+                removeDocument(id);
+                if (terms.isEmpty()) {
+                    return;
+                }
+
+                float length = 0;
+                for (Map.Entry<String, Float> term : terms.entrySet()) {
+                    postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(id, term.getValue());
+                    length += term.getValue();
+                }
+                documents.put(id, terms);
+                lengths.put(id, length);
+                totalLength += length;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long id) {
+            lock.writeLock().lock();
+            try {
+                removeDocument(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<Long> search(List<String> tokens, int limit) {
+            lock.readLock().lock();
+            try {
+                int documentCount = documents.size();
+                if (documentCount == 0) {
+                    return List.of();
+                }
+                double averageLength = totalLength / documentCount;
+
+                Map<Long, Double> scores = null;
+                for (String token : tokens) {
+                    Map<Long, Double> tokenScores = score(token, documentCount, averageLength);
+                    if (scores == null) {
+                        scores = tokenScores;
+                    } else {
+                        scores.keySet().retainAll(tokenScores.keySet());
+                        scores.replaceAll((id, score) -> score + tokenScores.get(id));
+                    }
+
+                    if (scores.isEmpty()) {
+                        return List.of();
+                    }
+                }
+
+                return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Double>comparingByKey(Comparator.reverseOrder())))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private Map<Long, Double> score(String token, int documentCount, double averageLength) {
+            Map<Long, Double> scores = new HashMap<>();
+
+            Map<Long, Float> exact = postings.get(token);
+            if (exact != null) {
+                addScores(scores, exact, 1.0, documentCount, averageLength);
+            }
+            for (Map.Entry<String, Map<Long, Float>> expansion : expansions(token)) {
+                addScores(scores, expansion.getValue(), PREFIX_MATCH_WEIGHT, documentCount, averageLength);
+            }
+
+            return scores;
+        }
+
+        // 접두어로 확장되는 단어 중 문서 빈도가 높은 MAX_PREFIX_EXPANSIONS 개만 고른다. 빈도가 같으면 사전 순으로 앞선 단어를 남긴다.
+        // MIN_PREFIX_LENGTH 보다 짧은 토큰은 거의 모든 단어로 확장되므로 접두어로 쓰지 않고 정확히 일치하는 단어만 찾는다.
+        private Collection<Map.Entry<String, Map<Long, Float>>> expansions(String token) {
+            if (token.length() < MIN_PREFIX_LENGTH) {
+                return List.of();
+            }
+
+            PriorityQueue<Map.Entry<String, Map<Long, Float>>> top = new PriorityQueue<>(EXPANSION_ORDER);
+            for (Map.Entry<String, Map<Long, Float>> entry : postings.tailMap(token, false).entrySet()) {
+                if (!entry.getKey().startsWith(token)) {
+                    break;
+                }
+                top.add(entry);
+                if (top.size() > MAX_PREFIX_EXPANSIONS) {
+                    top.poll();
+                }
+            }
+            return top;
+        }
+
+        private void addScores(Map<Long, Double> scores, Map<Long, Float> posting, double matchWeight,
+                               int documentCount, double averageLength) {
+            double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+
+            for (Map.Entry<Long, Float> document : posting.entrySet()) {
+                double tf = document.getValue();
+                double norm = K1 * (1 - B + B * lengths.get(document.getKey()) / averageLength);
+                scores.merge(document.getKey(), matchWeight * idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+            }
+        }
+
+        private void removeDocument(Long id) {
+            Map<String, Float> terms = documents.remove(id);
+            if (terms == null) {
+                return;
+            }
+
+            for (String term : terms.keySet()) {
+                Map<Long, Float> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(id);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+            totalLength -= lengths.remove(id);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.gwtt.jobblog.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gwtt.jobblog.event.RefreshTokensRevokedEvent;
+import com.gwtt.jobblog.exceptions.ServiceUnavailableException;
+import com.gwtt.jobblog.util.JwtProvider;
+import com.gwtt.jobblog.util.RefreshTokenClaims;
+
+// 같은 refresh token(jti)으로 동시에 들어온 갱신 요청을 하나로 합친다.
+// 한 요청만 교체를 수행하고 나머지는 같은 결과(새 토큰 쌍)를 받는다.
+// 교체 결과는 grace 동안 남아 있어, 조금 늦게 도착한 탭이 방금 교체된 토큰으로 요청해도 같은 결과를 돌려준다.
+// 로그아웃이나 사용자 토큰 전체 무효화가 커밋되면 관련 결과를 바로 지워, 폐기된 세션에 grace 동안 토큰을 내주지 않는다.
+@Component
+public class RefreshTokenCoalescer {
+    private final GoogleOAuthService googleOAuthService;
+    private final JwtProvider jwtProvider;
+    private final Cache<String, Rotation> rotations;
+    private final Duration waitTimeout;
+
+    public RefreshTokenCoalescer(GoogleOAuthService googleOAuthService,
+                                 JwtProvider jwtProvider,
+                                 @Value("${auth.refresh-coalescing.grace:10s}") Duration grace,
+                                 @Value("${auth.refresh-coalescing.wait-timeout:5s}") Duration waitTimeout,
+                                 @Value("${auth.refresh-coalescing.max-size:10000}") long maxSize) {
+        this.googleOAuthService = googleOAuthService;
+        this.jwtProvider = jwtProvider;
+        this.waitTimeout = waitTimeout;
+        this.rotations = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(grace)
+            .build();
+    }
+
+    public Map<String, String> refresh(String refreshToken) {
+        // 서명을 먼저 검증하므로 위조된 토큰이 다른 세션의 결과를 가져갈 수 없다.
+        RefreshTokenClaims claims = jwtProvider.verifyRefreshToken(refreshToken);
+        String jti = claims.getJti();
+
+        Rotation rotation = new Rotation(claims.getUserId());
+        Rotation inFlight = rotations.asMap().putIfAbsent(jti, rotation);
+        if (inFlight != null) {
+            return await(inFlight.tokens);
+        }
+
+        try {
+            Map<String, String> tokens = googleOAuthService.refreshToken(refreshToken);
+            rotation.rotatedJti = jwtProvider.verifyRefreshToken(tokens.get("refreshToken")).getJti();
+            rotation.tokens.complete(tokens);
+            return tokens;
+        } catch (RuntimeException e) {
+            // 실패는 공유하지 않고 지워서, 일시적인 오류였다면 다음 요청이 다시 시도할 수 있게 한다.
+            rotation.tokens.completeExceptionally(e);
+            rotations.asMap().remove(jti, rotation);
+            throw e;
+        }
+    }
+
+    // 폐기된 토큰으로 시작한 교체 결과와, 교체로 발급된 토큰이 폐기된 결과를 모두 지운다.
+    // 결과는 grace 동안만 남아 있어 항목 수가 적으므로 전체를 훑는다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRefreshTokensRevoked(RefreshTokensRevokedEvent event) {
+        if (event.getJti() == null) {
+            rotations.asMap().values().removeIf(rotation -> rotation.userId.equals(event.getUserId()));
+            return;
+        }
+
+        rotations.invalidate(event.getJti());
+        rotations.asMap().values().removeIf(rotation -> event.getJti().equals(rotation.rotatedJti));
+    }
+
+    private Map<String, String> await(CompletableFuture<Map<String, String>> rotation) {
+        try {
+            return rotation.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new ServiceUnavailableException("Token refresh timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Token refresh interrupted");
+        }
+    }
+
+    private static final class Rotation {
+        private final Long userId;
+        private final CompletableFuture<Map<String, String>> tokens = new CompletableFuture<>();
+        // 교체가 끝나면 새 refresh token 의 jti 가 들어간다.
+        private volatile String rotatedJti;
+
+        private Rotation(Long userId) {
+            this.userId = userId;
+        }
+    }
+}
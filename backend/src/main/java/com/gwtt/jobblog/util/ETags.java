@@ -0,0 +1,48 @@
+package com.gwtt.jobblog.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+import com.gwtt.jobblog.dto.JobPostCollectionVersion;
+
+// 본문을 만들지 않고도 계산할 수 있는 버전 정보(id, updatedAt 등)로 강한 ETag 를 만든다.
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String forJobPost(Long id, LocalDateTime updatedAt) {
+        return quote("jp", id, toEpochMicros(updatedAt));
+    }
+
+    public static String forCollection(String name, Long userId, JobPostCollectionVersion version, Object... parameters) {
+        StringJoiner joiner = new StringJoiner("|");
+        for (Object parameter : parameters) {
+            joiner.add(Objects.toString(parameter, ""));
+        }
+        return quote(name, userId, version.getCount(), toEpochMicros(version.getLastModifiedAt()),
+            Integer.toHexString(joiner.toString().hashCode()));
+    }
+
+    public static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0;
+        }
+        return ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), dateTime);
+    }
+
+    private static String quote(Object... parts) {
+        StringJoiner joiner = new StringJoiner("-", "\"", "\"");
+        for (Object part : parts) {
+            joiner.add(String.valueOf(part));
+        }
+        return joiner.toString();
+    }
+}
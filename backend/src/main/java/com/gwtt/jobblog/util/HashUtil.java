@@ -9,8 +9,11 @@ import org.springframework.stereotype.Component;
 
 @Component
 public class HashUtil {
-    @Value("${jwt.salt}")
-    private String salt;
+    private final String salt;
+
+    public HashUtil(@Value("${jwt.salt}") String salt) {
+        this.salt = salt;
+    }
 
     public String hash(String refreshToken) {
         try {
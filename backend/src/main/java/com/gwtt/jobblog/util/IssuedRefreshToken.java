@@ -0,0 +1,11 @@
+package com.gwtt.jobblog.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class IssuedRefreshToken {
+    private final String token;
+    private final String jti;
+}
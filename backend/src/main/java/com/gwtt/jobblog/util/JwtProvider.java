@@ -1,6 +1,8 @@
 package com.gwtt.jobblog.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import javax.crypto.SecretKey;
@@ -12,30 +14,31 @@ import java.util.UUID;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.gwtt.jobblog.exceptions.UnauthorizedException;
+
 @Component
 public class JwtProvider {
 
-    @Value("${jwt.issuer}")
-    private String issuer;
-
-    @Value("${jwt.secret-key}")
-    private String secretKey;
+    private static final long ACCESS_TOKEN_EXPIRATION = 1000 * 60 * 30; 
 
-    @Value("${jwt.secret-refresh-key}")
-    private String secretRefreshKey;
+    private static final long REFRESH_TOKEN_EXPIRATION = 1000 * 60 * 60 * 24 * 14;
 
-    private final long ACCESS_TOKEN_EXPIRATION = 1000 * 60 * 30; 
+    private final String issuer;
 
-    private final long REFRESH_TOKEN_EXPIRATION = 1000 * 60 * 60 * 24 * 14;
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
+    // 키와 파서는 불변이고 스레드 안전하므로 기동 시 한 번만 만든다.
+    private final SecretKey signingKey;
+    private final SecretKey refreshSigningKey;
+    private final JwtParser accessTokenParser;
+    private final JwtParser refreshTokenParser;
 
-    private SecretKey getRefreshSigningKey() {
-        byte[] keyBytes = secretRefreshKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public JwtProvider(@Value("${jwt.issuer}") String issuer,
+                       @Value("${jwt.secret-key}") String secretKey,
+                       @Value("${jwt.secret-refresh-key}") String secretRefreshKey) {
+        this.issuer = issuer;
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.refreshSigningKey = Keys.hmacShaKeyFor(secretRefreshKey.getBytes(StandardCharsets.UTF_8));
+        this.accessTokenParser = Jwts.parser().verifyWith(signingKey).build();
+        this.refreshTokenParser = Jwts.parser().verifyWith(refreshSigningKey).build();
     }
 
     public String createAccessToken(Long userId, int userVersion) {
@@ -49,16 +52,16 @@ public class JwtProvider {
             .claim("uver", userVersion) // user version
             .issuedAt(now)
             .expiration(expiration)
-            .signWith(getSigningKey())
+            .signWith(signingKey)
             .compact();
     }
 
-    public String createRefreshToken(Long userId, int userVersion, int tokenVersion) {
+    public IssuedRefreshToken createRefreshToken(Long userId, int userVersion, int tokenVersion) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + REFRESH_TOKEN_EXPIRATION);
         String jti = UUID.randomUUID().toString();
 
-        return Jwts.builder()
+        String token = Jwts.builder()
             .issuer(issuer)
             .subject(String.valueOf(userId))
             .claim("token_type", "refresh")
@@ -67,42 +70,40 @@ public class JwtProvider {
             .claim("sver", tokenVersion) // session version
             .issuedAt(now)
             .expiration(expiration)
-            .signWith(getRefreshSigningKey())
+            .signWith(refreshSigningKey)
             .compact();
-    }
 
-    public String getUserIdFromToken(String token) {
-        return Jwts.parser()
-            .verifyWith(getSigningKey())
-            .build()
-            .parseSignedClaims(token)
-            .getPayload()
-            .getSubject();
+        return new IssuedRefreshToken(token, jti);
     }
 
-    public Claims parseRefreshToken(String token) {
-        return Jwts.parser()
-            .verifyWith(getRefreshSigningKey())
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+    // 서명 검증과 클레임 추출을 한 번의 파싱으로 처리한다.
+    public AccessTokenClaims verifyAccessToken(String token) {
+        Claims claims = parse(accessTokenParser, token, "Invalid access token");
+        Integer uver = claims.get("uver", Integer.class);
+
+        if (claims.getSubject() == null || uver == null) {
+            throw new UnauthorizedException("Invalid access token");
+        }
+
+        return new AccessTokenClaims(Long.parseLong(claims.getSubject()), uver);
     }
 
-    public String getJtiFromToken(String token) {
-        return Jwts.parser()
-            .verifyWith(getRefreshSigningKey())
-            .build()
-            .parseSignedClaims(token)
-            .getPayload()
-            .get("jti", String.class);
+    public RefreshTokenClaims verifyRefreshToken(String token) {
+        Claims claims = parse(refreshTokenParser, token, "Invalid refresh token");
+        Integer uver = claims.get("uver", Integer.class);
+        Integer sver = claims.get("sver", Integer.class);
+        String jti = claims.get("jti", String.class);
+
+        if (claims.getSubject() == null || uver == null || sver == null || jti == null) {
+            throw new UnauthorizedException("Invalid refresh token");
+        }
+
+        return new RefreshTokenClaims(Long.parseLong(claims.getSubject()), uver, sver, jti);
     }
 
     public boolean isValidAccessToken(String token) {
         try {
-            Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token);
+            accessTokenParser.parseSignedClaims(token);
             return true;
         } catch (Exception e) {
             return false;
@@ -111,13 +112,18 @@ public class JwtProvider {
 
     public boolean isValidRefreshToken(String token) {
         try {
-            Jwts.parser()
-                .verifyWith(getRefreshSigningKey())
-                .build()
-                .parseSignedClaims(token);
+            refreshTokenParser.parseSignedClaims(token);
             return true;
         } catch (Exception e) {
             return false;
         }
     }
+
+    private Claims parse(JwtParser parser, String token, String message) {
+        try {
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new UnauthorizedException(message);
+        }
+    }
 }
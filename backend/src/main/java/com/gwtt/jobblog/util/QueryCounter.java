@@ -0,0 +1,117 @@
+package com.gwtt.jobblog.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate 가 준비하는 SQL 문을 현재 스레드의 활성 카운터에 센다.
+// 카운터는 중첩될 수 있어(요청 필터 안의 테스트 등) 활성화된 모든 카운터가 함께 증가한다.
+public class QueryCounter implements StatementInspector {
+    private static final ThreadLocal<Deque<Counts>> ACTIVE = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Deque<Counts> active = ACTIVE.get();
+        if (active != null) {
+            String type = typeOf(sql);
+            for (Counts counts : active) {
+                counts.increment(type);
+            }
+        }
+        return sql;
+    }
+
+    public static Counts start() {
+        Deque<Counts> active = ACTIVE.get();
+        if (active == null) {
+            active = new ArrayDeque<>();
+            ACTIVE.set(active);
+        }
+
+        Counts counts = new Counts();
+        active.push(counts);
+        return counts;
+    }
+
+    public static void stop(Counts counts) {
+        Deque<Counts> active = ACTIVE.get();
+        if (active == null) {
+            return;
+        }
+
+        active.remove(counts);
+        if (active.isEmpty()) {
+            ACTIVE.remove();
+        }
+    }
+
+    private static String typeOf(String sql) {
+        String statement = sql.stripLeading();
+        while (statement.startsWith("/*")) {
+            int end = statement.indexOf("*/");
+            if (end < 0) {
+                break;
+            }
+            statement = statement.substring(end + 2).stripLeading();
+        }
+
+        int end = 0;
+        while (end < statement.length() && Character.isLetter(statement.charAt(end))) {
+            end++;
+        }
+        return statement.substring(0, end).toLowerCase();
+    }
+
+    public static class Counts {
+        private int select;
+        private int insert;
+        private int update;
+        private int delete;
+        private int total;
+
+        private void increment(String type) {
+            switch (type) {
+                case "select", "with" -> select++;
+                case "insert" -> insert++;
+                case "update" -> update++;
+                case "delete" -> delete++;
+                default -> { }
+            }
+            total++;
+        }
+
+        public int getSelectCount() {
+            return select;
+        }
+
+        public int getInsertCount() {
+            return insert;
+        }
+
+        public int getUpdateCount() {
+            return update;
+        }
+
+        public int getDeleteCount() {
+            return delete;
+        }
+
+        public int getTotalCount() {
+            return total;
+        }
+
+        public void reset() {
+            select = 0;
+            insert = 0;
+            update = 0;
+            delete = 0;
+            total = 0;
+        }
+
+        @Override
+        public String toString() {
+            return "total " + total + " (select " + select + ", insert " + insert + ", update " + update + ", delete " + delete + ")";
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.gwtt.jobblog.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RefreshTokenClaims {
+    private final Long userId;
+    private final int userVersion;
+    private final int sessionVersion;
+    private final String jti;
+}
@@ -0,0 +1,63 @@
+package com.gwtt.jobblog.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 한글은 형태소 분석 없이 음절 bigram 으로, 그 외 문자는 단어 단위로 자른다.
+// "카카오뱅크 backend" -> [카카, 카오, 오뱅, 뱅크, backend]
+public final class TextTokenizer {
+
+    private TextTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder run = new StringBuilder();
+        boolean runIsHangul = false;
+
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (!Character.isLetterOrDigit(codePoint)) {
+                flush(run, runIsHangul, tokens);
+                continue;
+            }
+
+            boolean isHangul = Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+            if (run.length() > 0 && isHangul != runIsHangul) {
+                flush(run, runIsHangul, tokens);
+            }
+            runIsHangul = isHangul;
+            run.appendCodePoint(codePoint);
+        }
+        flush(run, runIsHangul, tokens);
+
+        return tokens;
+    }
+
+    private static void flush(StringBuilder run, boolean hangul, List<String> tokens) {
+        if (run.length() == 0) {
+            return;
+        }
+
+        String word = run.toString();
+        run.setLength(0);
+
+        if (!hangul || word.length() == 1) {
+            tokens.add(word);
+            return;
+        }
+
+        for (int i = 0; i + 2 <= word.length(); i++) {
+            tokens.add(word.substring(i, i + 2));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.gwtt.jobblog.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.gwtt.jobblog.datasource.ReplicaLagGuard;
+import com.zaxxer.hikari.HikariDataSource;
+
+// application-prod.yaml.example 처럼 replica url 을 비워 두면 라우팅 없이 단일 데이터소스로 떠야 한다.
+class DataSourceRoutingConfigTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+        .withUserConfiguration(DataSourceRoutingConfig.class)
+        .withBean(ReplicaLagGuard.class, () -> new ReplicaLagGuard(Duration.ofSeconds(5)))
+        .withPropertyValues("spring.datasource.url=jdbc:h2:mem:routing-config;DB_CLOSE_DELAY=-1");
+
+    @Test
+    void blankReplicaUrlKeepsSingleDataSource() {
+        contextRunner
+            .withPropertyValues("datasource.replica.url=")
+            .run(context -> {
+                assertThat(context).hasNotFailed();
+                assertThat(context).doesNotHaveBean(DataSourceRoutingConfig.class);
+                assertThat(context).hasSingleBean(DataSource.class);
+                assertThat(context.getBean(DataSource.class)).isInstanceOf(HikariDataSource.class);
+            });
+    }
+
+    @Test
+    void missingReplicaUrlKeepsSingleDataSource() {
+        contextRunner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).doesNotHaveBean(DataSourceRoutingConfig.class);
+            assertThat(context).hasSingleBean(DataSource.class);
+        });
+    }
+
+    @Test
+    void replicaUrlEnablesRouting() {
+        contextRunner
+            .withPropertyValues("datasource.replica.url=jdbc:h2:mem:routing-config-replica;DB_CLOSE_DELAY=-1")
+            .run(context -> {
+                assertThat(context).hasNotFailed();
+                assertThat(context.getBeansOfType(DataSource.class)).containsOnlyKeys("primaryDataSource", "replicaDataSource", "dataSource");
+                assertThat(context.getBean(DataSource.class)).isInstanceOf(LazyConnectionDataSourceProxy.class);
+            });
+    }
+}
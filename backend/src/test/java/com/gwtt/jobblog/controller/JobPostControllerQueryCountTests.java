@@ -0,0 +1,270 @@
+package com.gwtt.jobblog.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gwtt.jobblog.auth.PrincipalCache;
+import com.gwtt.jobblog.domain.JobPost;
+import com.gwtt.jobblog.domain.JobStatus;
+import com.gwtt.jobblog.domain.User;
+import com.gwtt.jobblog.dto.JobPostRequestDto;
+import com.gwtt.jobblog.dto.JobPostStatusUpdateRequestDto;
+import com.gwtt.jobblog.repository.UserRepository;
+import com.gwtt.jobblog.service.JobPostService;
+import com.gwtt.jobblog.support.QueryCountExtension;
+import com.gwtt.jobblog.support.TestUsers;
+import com.gwtt.jobblog.util.JwtProvider;
+import com.gwtt.jobblog.util.QueryCounter;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+
+// 엔드포인트별 SQL 문 수를 고정한다. 숫자가 바뀌면 N+1 이나 불필요한 조회가 추가되지 않았는지 확인할 것.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@ExtendWith(QueryCountExtension.class)
+class JobPostControllerQueryCountTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JobPostService jobPostService;
+    @Autowired
+    private JwtProvider jwtProvider;
+    @Autowired
+    private PrincipalCache principalCache;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private String bearer;
+    private Long jobPostId;
+
+    @BeforeEach
+    void setUp() {
+        user = TestUsers.save(userRepository);
+        bearer = "Bearer " + jwtProvider.createAccessToken(user.getId(), user.getTokenVersion());
+
+        for (int i = 0; i < 3; i++) {
+            Long id = jobPostService.createJobPost(request("Backend Engineer " + i), user);
+            if (i == 0) {
+                jobPostId = id;
+            }
+        }
+
+        // 인증 인터셉터의 사용자 조회는 캐시에 올려 두고 엔드포인트 자체의 쿼리만 센다.
+        principalCache.get(user.getId(), user.getTokenVersion());
+    }
+
+    @Test
+    void getJobPost(QueryCounter.Counts queries) throws Exception {
+        queries.reset();
+        mockMvc.perform(get("/job-posts/{id}", jobPostId)).andExpect(status().isOk());
+
+        // updatedAt 조회 + 사용자 fetch join 조회
+        assertThat(queries.getSelectCount()).isEqualTo(2);
+        assertThat(queries.getTotalCount()).isEqualTo(2);
+
+        queries.reset();
+        mockMvc.perform(get("/job-posts/{id}", jobPostId)).andExpect(status().isOk());
+
+        // 응답 캐시 적중
+        assertThat(queries.getTotalCount()).isZero();
+    }
+
+    @Test
+    void getMyJobPosts(QueryCounter.Counts queries) throws Exception {
+        queries.reset();
+        String eTag = mockMvc.perform(get("/job-posts/my").header(HttpHeaders.AUTHORIZATION, bearer))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 컬렉션 버전(ETag) + 페이지 조회
+        assertThat(queries.getSelectCount()).isEqualTo(2);
+        assertThat(queries.getTotalCount()).isEqualTo(2);
+
+        queries.reset();
+        mockMvc.perform(get("/job-posts/my").header(HttpHeaders.AUTHORIZATION, bearer).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+
+        // 컬렉션 버전은 메모리에서 읽는다.
+        assertThat(queries.getTotalCount()).isZero();
+
+        jobPostService.updateJobPost(jobPostId, request("Senior Backend Engineer"), user);
+
+        queries.reset();
+        mockMvc.perform(get("/job-posts/my").header(HttpHeaders.AUTHORIZATION, bearer).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk());
+
+        // 수정 이벤트로 버전이 바뀌어 페이지만 다시 조회한다.
+        assertThat(queries.getTotalCount()).isEqualTo(1);
+    }
+
+    @Test
+    void searchJobPosts(QueryCounter.Counts queries) throws Exception {
+        queries.reset();
+        mockMvc.perform(get("/job-posts/search").param("from", "2025-01-01").param("to", "2030-12-31")
+            .header(HttpHeaders.AUTHORIZATION, bearer)).andExpect(status().isOk());
+
+        // 컬렉션 버전 + 구간 인덱스 적재
+        assertThat(queries.getTotalCount()).isEqualTo(2);
+
+        queries.reset();
+        mockMvc.perform(get("/job-posts/search").param("from", "2025-01-01").param("to", "2030-06-30")
+            .header(HttpHeaders.AUTHORIZATION, bearer)).andExpect(status().isOk());
+
+        // 컬렉션 버전과 구간 인덱스 모두 메모리에서 읽는다.
+        assertThat(queries.getTotalCount()).isZero();
+    }
+
+    @Test
+    void searchJobPostsByText(QueryCounter.Counts queries) throws Exception {
+        queries.reset();
+        mockMvc.perform(get("/job-posts/search/text").param("q", "backend")
+            .header(HttpHeaders.AUTHORIZATION, bearer)).andExpect(status().isOk());
+
+        // 검색은 메모리 인덱스, 결과 행만 한 번에 조회
+        assertThat(queries.getTotalCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getJobPostStats(QueryCounter.Counts queries) throws Exception {
+        queries.reset();
+        mockMvc.perform(get("/job-posts/stats").header(HttpHeaders.AUTHORIZATION, bearer)).andExpect(status().isOk());
+
+        // 처음 한 번만 GROUP BY 로 계산한다.
+        assertThat(queries.getTotalCount()).isEqualTo(1);
+
+        jobPostService.createJobPost(request("Data Engineer"), user);
+
+        queries.reset();
+        mockMvc.perform(get("/job-posts/stats").header(HttpHeaders.AUTHORIZATION, bearer))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.saved").value(4))
+            .andExpect(jsonPath("$.total").value(4));
+
+        // 생성 이벤트로 갱신된 카운터를 그대로 읽는다.
+        assertThat(queries.getTotalCount()).isZero();
+    }
+
+    @Test
+    void createJobPost(QueryCounter.Counts queries) throws Exception {
+        queries.reset();
+        mockMvc.perform(post("/job-posts").header(HttpHeaders.AUTHORIZATION, bearer)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request("Platform Engineer"))))
+            .andExpect(status().isOk());
+
+        // 시퀀스 조회는 할당 크기(50)마다 한 번이라 이전 테스트에 따라 달라지므로 DML 만 고정한다.
+        assertThat(queries.getInsertCount()).isEqualTo(1);
+        assertThat(queries.getUpdateCount()).isZero();
+        assertThat(queries.getDeleteCount()).isZero();
+    }
+
+    @Test
+    void updateJobPost(QueryCounter.Counts queries) throws Exception {
+        queries.reset();
+        mockMvc.perform(put("/job-posts/{id}", jobPostId).header(HttpHeaders.AUTHORIZATION, bearer)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request("Senior Backend Engineer"))))
+            .andExpect(status().isNoContent());
+
+        // 소유자 확인용 fetch join 조회 + update (merge 시 조회는 2차 캐시 적중)
+        assertThat(queries.getSelectCount()).isEqualTo(1);
+        assertThat(queries.getUpdateCount()).isEqualTo(1);
+        assertThat(queries.getTotalCount()).isEqualTo(2);
+    }
+
+    @Test
+    void updateJobPostStatus(QueryCounter.Counts queries) throws Exception {
+        User other = TestUsers.save(userRepository);
+        Long otherJobPostId = jobPostService.createJobPost(request("Frontend Engineer"), other);
+        Long untouchedId = jobPostService.createJobPost(request("Data Engineer"), user);
+
+        Cache cache = entityManagerFactory.getCache();
+        assertThat(cache.contains(JobPost.class, jobPostId)).isTrue();
+        assertThat(cache.contains(JobPost.class, untouchedId)).isTrue();
+
+        String body = objectMapper.writeValueAsString(JobPostStatusUpdateRequestDto.builder()
+            .ids(List.of(jobPostId, otherJobPostId))
+            .status(JobStatus.APPLIED)
+            .build());
+
+        queries.reset();
+        mockMvc.perform(patch("/job-posts/status").header(HttpHeaders.AUTHORIZATION, bearer)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.updatedIds.length()").value(1))
+            .andExpect(jsonPath("$.updatedIds[0]").value(jobPostId));
+
+        // 이전 상태 조회 + 소유자 조건을 넣은 UPDATE 한 번. 공고 수가 늘어도 같다.
+        assertThat(queries.getSelectCount()).isEqualTo(1);
+        assertThat(queries.getUpdateCount()).isEqualTo(1);
+        assertThat(queries.getTotalCount()).isEqualTo(2);
+
+        // 바뀐 공고만 2차 캐시에서 빠지고, 같은 리전의 다른 공고는 남는다.
+        assertThat(cache.contains(JobPost.class, jobPostId)).isFalse();
+        assertThat(cache.contains(JobPost.class, untouchedId)).isTrue();
+
+        queries.reset();
+        mockMvc.perform(patch("/job-posts/status").header(HttpHeaders.AUTHORIZATION, bearer)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.updatedIds").isEmpty());
+
+        // 이미 바뀐 공고뿐이면 UPDATE 하지 않는다.
+        assertThat(queries.getTotalCount()).isEqualTo(1);
+    }
+
+    @Test
+    void deleteJobPost(QueryCounter.Counts queries) throws Exception {
+        queries.reset();
+        mockMvc.perform(delete("/job-posts/{id}", jobPostId).header(HttpHeaders.AUTHORIZATION, bearer))
+            .andExpect(status().isNoContent());
+
+        // 소유자 확인용 fetch join 조회 + delete (삭제 전 조회는 2차 캐시 적중)
+        assertThat(queries.getSelectCount()).isEqualTo(1);
+        assertThat(queries.getDeleteCount()).isEqualTo(1);
+        assertThat(queries.getTotalCount()).isEqualTo(2);
+    }
+
+    private JobPostRequestDto request(String title) {
+        LocalDateTime now = LocalDateTime.now();
+        return JobPostRequestDto.builder()
+            .companyName("Jobblog")
+            .title(title)
+            .description("Spring Boot 백엔드 개발")
+            .applyUrl("https://careers.example.com/jobs/1")
+            .closingDateTime(now.plusDays(14))
+            .status(JobStatus.SAVED)
+            .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.gwtt.jobblog.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.gwtt.jobblog.domain.JobPost;
+import com.gwtt.jobblog.domain.User;
+import com.gwtt.jobblog.event.JobPostChangedEvent;
+
+// primary / replica 역할을 하는 두 개의 H2 메모리 DB 로 라우팅을 확인한다.
+class ReplicaRoutingDataSourceTests {
+
+    private final ReplicaLagGuard replicaLagGuard = new ReplicaLagGuard(Duration.ofSeconds(5));
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(replicaLagGuard);
+        routingDataSource.setTargetDataSources(Map.of(
+            ReplicaRoutingDataSource.Route.PRIMARY, primary,
+            ReplicaRoutingDataSource.Route.REPLICA, replica));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void routesByTransactionReadOnlyFlag() {
+        assertThat(readOnly.execute(status -> role())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> role())).isEqualTo("primary");
+        assertThat(role()).isEqualTo("primary");
+    }
+
+    @Test
+    void onPrimaryOverridesReadOnlyRouting() {
+        assertThat(replicaLagGuard.onPrimary(() -> readOnly.execute(status -> role()))).isEqualTo("primary");
+        assertThat(readOnly.execute(status -> role())).isEqualTo("replica");
+    }
+
+    @Test
+    void recentWriterReadsOwnWritesFromPrimary() {
+        User writer = User.builder().id(1L).name("writer").build();
+        User other = User.builder().id(2L).name("other").build();
+        JobPost jobPost = JobPost.builder().id(10L).user(writer).createdAt(LocalDateTime.now()).build();
+
+        replicaLagGuard.onJobPostChanged(new JobPostChangedEvent(JobPostChangedEvent.Type.UPDATED, writer.getId(), jobPost));
+
+        assertThat(readOnlyAs(writer)).isEqualTo("primary");
+        assertThat(readOnlyAs(other)).isEqualTo("replica");
+        assertThat(replicaLagGuard.isRecentlyWritten(10L)).isTrue();
+    }
+
+    private String readOnlyAs(User user) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("user", user);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            return readOnly.execute(status -> role());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private String role() {
+        return jdbcTemplate.queryForObject("select name from db_role", String.class);
+    }
+
+    private DataSource database(String role) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:routing-" + role + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table if not exists db_role (name varchar(16))");
+        jdbc.execute("delete from db_role");
+        jdbc.update("insert into db_role values (?)", role);
+        return dataSource;
+    }
+}
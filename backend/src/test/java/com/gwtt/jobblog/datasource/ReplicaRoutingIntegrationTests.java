@@ -0,0 +1,137 @@
+package com.gwtt.jobblog.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.gwtt.jobblog.domain.JobStatus;
+import com.gwtt.jobblog.domain.User;
+import com.gwtt.jobblog.dto.JobPostRequestDto;
+import com.gwtt.jobblog.dto.JobPostSimpleResponseDto;
+import com.gwtt.jobblog.repository.UserRepository;
+import com.gwtt.jobblog.service.JobPostService;
+import com.gwtt.jobblog.support.TestUsers;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// primary 와 replica 를 서로 다른 H2 DB 로 띄운다. 둘 사이에 복제가 없으므로 어느 쪽을 읽었는지 결과로 구분된다.
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:routing-it-primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+    "datasource.replica.url=jdbc:h2:mem:routing-it-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+    "datasource.replica.max-lag=500ms"
+})
+@ActiveProfiles("test")
+class ReplicaRoutingIntegrationTests {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JobPostService jobPostService;
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyServiceReadsHitReplicaAndWritesHitPrimary() {
+        User user = TestUsers.save(userRepository);
+        Long written = jobPostService.createJobPost(request("Backend Engineer"), user);
+        Long replicaOnly = insertIntoReplica(user, "replica only");
+
+        assertThat(exists(primaryDataSource, written)).isTrue();
+        assertThat(exists(replicaDataSource, written)).isFalse();
+        assertThat(ids(jobPostService.getJobPostsByUser(user.getId(), null, 20).getItems())).containsExactly(replicaOnly);
+    }
+
+    @Test
+    void recentWriterReadsOwnWritesFromPrimaryUntilMaxLag() throws InterruptedException {
+        User writer = TestUsers.save(userRepository);
+        User other = TestUsers.save(userRepository);
+        Long written = jobPostService.createJobPost(request("Backend Engineer"), writer);
+        Long replicaOnly = insertIntoReplica(writer, "replica only");
+
+        assertThat(ids(readAs(writer, writer))).containsExactly(written);
+        assertThat(ids(readAs(other, writer))).containsExactly(replicaOnly);
+
+        Thread.sleep(800);
+
+        assertThat(ids(readAs(writer, writer))).containsExactly(replicaOnly);
+    }
+
+    // requester 의 요청 안에서 owner 의 공고 목록을 읽는다.
+    private List<JobPostSimpleResponseDto> readAs(User requester, User owner) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("user", requester);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            return jobPostService.getJobPostsByUser(owner.getId(), null, 20).getItems();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    // 복제가 늦어 replica 에만 다른 공고가 있는 상태를 흉내 낸다.
+    private Long insertIntoReplica(User user, String title) {
+        Long id = 1_000_000L + user.getId();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        new JdbcTemplate(replicaDataSource).update(
+            "insert into job_post (id, user_id, company_name, title, status, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?)",
+            id, user.getId(), "Jobblog", title, JobStatus.SAVED.ordinal(), now, now);
+        return id;
+    }
+
+    private static boolean exists(DataSource dataSource, Long jobPostId) {
+        return new JdbcTemplate(dataSource).queryForObject("select count(*) from job_post where id = ?", Integer.class, jobPostId) > 0;
+    }
+
+    private static List<Long> ids(List<JobPostSimpleResponseDto> jobPosts) {
+        return jobPosts.stream().map(JobPostSimpleResponseDto::getId).toList();
+    }
+
+    private static JobPostRequestDto request(String title) {
+        return JobPostRequestDto.builder()
+            .companyName("Jobblog")
+            .title(title)
+            .closingDateTime(LocalDateTime.now().plusDays(7))
+            .status(JobStatus.SAVED)
+            .build();
+    }
+
+    // Hibernate 는 primary 에만 스키마를 만든다. 시작 시 replica 를 읽는 텍스트 인덱스 재구축보다 먼저 같은 스키마를 만들어 둔다.
+    // 복제본에는 사용자 행이 없으므로 외래 키는 검사하지 않는다.
+    @TestConfiguration
+    static class ReplicaSchema {
+        ReplicaSchema(EntityManagerFactory entityManagerFactory,
+                      @Qualifier("primaryDataSource") DataSource primaryDataSource,
+                      @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+            JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+            replica.execute("set referential_integrity false");
+            new JdbcTemplate(primaryDataSource).queryForList("script nodata", String.class).stream()
+                .filter(statement -> !statement.startsWith("--") && !statement.startsWith("CREATE USER"))
+                .forEach(replica::execute);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.gwtt.jobblog.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gwtt.jobblog.domain.User;
+import com.gwtt.jobblog.dto.JobPostBulkImportResponseDto;
+import com.gwtt.jobblog.dto.JobPostRequestDto;
+import com.gwtt.jobblog.repository.UserRepository;
+import com.gwtt.jobblog.service.JobPostBulkImportService;
+import com.gwtt.jobblog.service.JobPostService;
+import com.gwtt.jobblog.support.TestUsers;
+
+// 같은 행 수를 단건 등록(행마다 트랜잭션과 insert 한 번)과 일괄 등록(JDBC 배치)으로 넣고 초당 행 수를 비교한다.
+// 인메모리 H2 기준이라 절대값보다는 두 방식의 차이를 본다. 시간은 단언하지 않고 리포트로만 남긴다.
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("load")
+class JobPostBulkImportLoadTests {
+    private static final int ROWS = 1000;
+
+    @Autowired
+    private JobPostService jobPostService;
+    @Autowired
+    private JobPostBulkImportService jobPostBulkImportService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void compareSingleAndBulkInsertThroughput(TestReporter reporter) throws Exception {
+        // 첫 측정이 커넥션 풀과 JIT 준비 비용을 떠안지 않도록 한 번씩 먼저 실행한다.
+        insertOneByOne(TestUsers.save(userRepository), 50);
+        jobPostBulkImportService.importJson(body(50), TestUsers.save(userRepository));
+
+        long single = insertOneByOne(TestUsers.save(userRepository), ROWS);
+
+        User bulkUser = TestUsers.save(userRepository);
+        long startedAt = System.nanoTime();
+        JobPostBulkImportResponseDto response = jobPostBulkImportService.importJson(body(ROWS), bulkUser);
+        long bulk = System.nanoTime() - startedAt;
+
+        assertThat(response.getSucceeded()).isEqualTo(ROWS);
+        reporter.publishEntry(Map.of(
+            "rows", String.valueOf(ROWS),
+            "single.rowsPerSecond", String.format("%.0f", rowsPerSecond(single)),
+            "bulk.rowsPerSecond", String.format("%.0f", rowsPerSecond(bulk)),
+            "speedup", String.format("%.1fx", (double) single / bulk)));
+    }
+
+    private long insertOneByOne(User user, int rows) {
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < rows; i++) {
+            jobPostService.createJobPost(JobPostRequestDto.builder()
+                .companyName("Jobblog")
+                .title("Backend Engineer " + i)
+                .description("Spring Boot 백엔드 개발")
+                .closingDateTime(LocalDateTime.now().plusDays(30))
+                .build(), user);
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private ByteArrayInputStream body(int rows) throws Exception {
+        List<Map<String, String>> jobPosts = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            jobPosts.add(Map.of(
+                "companyName", "Jobblog",
+                "title", "Backend Engineer " + i,
+                "description", "Spring Boot 백엔드 개발",
+                "closingDateTime", LocalDateTime.now().plusDays(30).withNano(0).toString()));
+        }
+        return new ByteArrayInputStream(objectMapper.writeValueAsBytes(jobPosts));
+    }
+
+    private static double rowsPerSecond(long elapsedNanos) {
+        return ROWS * 1_000_000_000.0 / elapsedNanos;
+    }
+}
@@ -0,0 +1,146 @@
+package com.gwtt.jobblog.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.gwtt.jobblog.support.StubGoogleOAuthServer;
+
+// ./gradlew loadTest 로만 실행된다.
+// 실제 서버(임의 포트)의 /oauth/google/callback 에 로그인 요청을 한꺼번에 넣고 처리량과 p50/p99 를 리포트한다.
+// 구글 token/userinfo 는 지연을 넣은 스텁으로 대신한다. 하위 클래스가 Tomcat 플랫폼 스레드 풀과 가상 스레드 모드를 각각 띄운다.
+// 실행 환경에 따라 값이 크게 달라지므로 시간은 단언하지 않는다. 두 클래스의 리포트를 비교한다.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    // 아웃바운드 풀과 벌크헤드가 먼저 막히지 않도록 넉넉히 두고 요청 스레드 모델만 비교한다.
+    "google.http.max-connections=2000",
+    "google.http.max-connections-per-route=2000",
+    "google.http.max-concurrent-calls=2000",
+    "google.http.bulkhead-wait=10s",
+    "google.http.read-timeout=10s",
+    "google.http.pool-timeout=10s"
+})
+@ActiveProfiles("test")
+@Tag("load")
+abstract class OAuthLoginLoadTests {
+
+    private static final int REQUESTS = 2000;
+    private static final Duration PROVIDER_LATENCY = Duration.ofMillis(50);
+
+    private static StubGoogleOAuthServer stub;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .followRedirects(HttpClient.Redirect.NEVER)
+        .build();
+
+    // 컨텍스트마다 새 스텁을 띄우고 GoogleOAuthClient 가 그 주소를 쓰도록 한다.
+    @DynamicPropertySource
+    static void stubProperties(DynamicPropertyRegistry registry) throws Exception {
+        stub = StubGoogleOAuthServer.start(PROVIDER_LATENCY);
+        registry.add("google.token-uri", stub::tokenUri);
+        registry.add("google.userinfo-uri", stub::userInfoUri);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.close();
+    }
+
+    protected abstract String mode();
+
+    @Test
+    void loginSpike(TestReporter reporter) throws Exception {
+        // 워밍업. 커넥션 풀, JIT, 사용자 등록 경로를 미리 데운다.
+        run(REQUESTS / 4, "warmup-");
+
+        Result result = run(REQUESTS, "code-");
+
+        reporter.publishEntry(Map.of(
+            "mode", mode(),
+            "requests", String.valueOf(REQUESTS),
+            "throughput", String.format("%.1f req/s", result.requestsPerSecond()),
+            "p50", result.p50Millis() + " ms",
+            "p99", result.p99Millis() + " ms",
+            "statuses", result.statuses().toString()));
+
+        assertThat(result.statuses()).containsKey(302);
+    }
+
+    // 모든 요청을 가상 스레드로 동시에 보내 로그인 폭주를 만든다. 지연은 제출 시점부터 잰다.
+    private Result run(int requests, String codePrefix) throws Exception {
+        long[] latencies = new long[requests];
+        List<Future<Integer>> futures = new ArrayList<>(requests);
+        Map<Integer, Integer> statuses = new TreeMap<>();
+
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                long submitted = System.nanoTime();
+                futures.add(executor.submit(() -> {
+                    try {
+                        return login(codePrefix + index);
+                    } finally {
+                        latencies[index] = System.nanoTime() - submitted;
+                    }
+                }));
+            }
+            for (Future<Integer> future : futures) {
+                int status;
+                try {
+                    status = future.get();
+                } catch (Exception e) {
+                    status = -1;
+                }
+                statuses.merge(status, 1, Integer::sum);
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        return new Result(
+            requests * 1_000_000_000.0 / elapsed,
+            percentile(latencies, 0.50),
+            percentile(latencies, 0.99),
+            statuses);
+    }
+
+    private int login(String code) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/oauth/google/callback?code=" + code))
+            .timeout(Duration.ofSeconds(60))
+            .GET()
+            .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static long percentile(long[] sortedNanos, double percentile) {
+        return sortedNanos[(int) Math.ceil(sortedNanos.length * percentile) - 1] / 1_000_000;
+    }
+
+    private record Result(double requestsPerSecond, long p50Millis, long p99Millis, Map<Integer, Integer> statuses) {
+    }
+}
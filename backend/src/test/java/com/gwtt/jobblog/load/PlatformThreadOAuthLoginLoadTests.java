@@ -0,0 +1,13 @@
+package com.gwtt.jobblog.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+// Tomcat 기본 요청 스레드 풀(200)
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadOAuthLoginLoadTests extends OAuthLoginLoadTests {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
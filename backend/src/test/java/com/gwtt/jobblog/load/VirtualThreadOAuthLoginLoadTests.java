@@ -0,0 +1,16 @@
+package com.gwtt.jobblog.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+// 요청마다 가상 스레드. README 의 가상 스레드 실행 방법과 같이 커넥션 대기 시간을 짧게 둔다.
+@TestPropertySource(properties = {
+    "spring.threads.virtual.enabled=true",
+    "spring.datasource.hikari.connection-timeout=3000"
+})
+class VirtualThreadOAuthLoginLoadTests extends OAuthLoginLoadTests {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
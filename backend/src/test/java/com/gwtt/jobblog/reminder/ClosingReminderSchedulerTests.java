@@ -0,0 +1,119 @@
+package com.gwtt.jobblog.reminder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import com.gwtt.jobblog.domain.JobPost;
+import com.gwtt.jobblog.domain.JobStatus;
+import com.gwtt.jobblog.dto.JobPostReminderTarget;
+import com.gwtt.jobblog.event.JobPostChangedEvent;
+import com.gwtt.jobblog.event.JobPostsStatusChangedEvent;
+import com.gwtt.jobblog.repository.JobPostRepository;
+
+class ClosingReminderSchedulerTests {
+
+    private final JobPostRepository jobPostRepository = mock(JobPostRepository.class);
+    private final InMemoryReminderSink sink = new InMemoryReminderSink();
+    private final ClosingReminderScheduler scheduler = new ClosingReminderScheduler(jobPostRepository,
+        new StaticListableBeanFactory(Map.of("sink", sink)).getBeanProvider(ReminderSink.class),
+        Duration.ofSeconds(1), Duration.ofDays(7), Duration.ofHours(1));
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.destroy();
+    }
+
+    @Test
+    void loadedPostGetsBothRemindersInOrder() {
+        LocalDateTime closing = now.plusHours(30);
+        when(jobPostRepository.findReminderTargets(eq(JobStatus.SAVED), any(), any()))
+            .thenReturn(List.of(new JobPostReminderTarget(1L, 10L, "company", "title", closing)));
+
+        scheduler.extendHorizon();
+        assertThat(scheduler.size()).isEqualTo(1);
+
+        scheduler.tick(millis(now.plusHours(5)));
+        assertThat(sink.getReminders()).isEmpty();
+
+        scheduler.tick(millis(closing.minusHours(24).plusSeconds(1)));
+        assertThat(sink.getReminders()).extracting(ClosingReminder::getKind).containsExactly(ReminderKind.CLOSING_IN_24H);
+
+        scheduler.tick(millis(closing.minusHours(1).plusSeconds(1)));
+        assertThat(sink.getReminders()).extracting(ClosingReminder::getKind)
+            .containsExactly(ReminderKind.CLOSING_IN_24H, ReminderKind.CLOSING_IN_1H);
+        assertThat(scheduler.size()).isZero();
+    }
+
+    @Test
+    void changeEventsRescheduleAndCancel() {
+        when(jobPostRepository.findReminderTargets(eq(JobStatus.SAVED), any(), any())).thenReturn(List.of());
+        scheduler.extendHorizon();
+
+        // 24시간 전 시각이 이미 지났으면 1시간 전 알림만 예약한다.
+        JobPost jobPost = jobPost(2L, now.plusHours(10), JobStatus.SAVED);
+        scheduler.onJobPostChanged(new JobPostChangedEvent(JobPostChangedEvent.Type.CREATED, 10L, jobPost));
+        scheduler.tick(millis(now.plusHours(9).plusSeconds(1)));
+        assertThat(sink.getReminders()).extracting(ClosingReminder::getKind).containsExactly(ReminderKind.CLOSING_IN_1H);
+
+        // 지원하면 더 이상 알리지 않는다.
+        JobPost applied = jobPost(3L, now.plusDays(3), JobStatus.SAVED);
+        scheduler.onJobPostChanged(new JobPostChangedEvent(JobPostChangedEvent.Type.CREATED, 10L, applied));
+        assertThat(scheduler.size()).isEqualTo(1);
+        scheduler.onJobPostChanged(new JobPostChangedEvent(JobPostChangedEvent.Type.UPDATED, 10L,
+            jobPost(3L, now.plusDays(3), JobStatus.APPLIED)));
+        assertThat(scheduler.size()).isZero();
+
+        // 적재 구간 밖의 공고는 horizon 이 늘어날 때 읽는다.
+        scheduler.onJobPostChanged(new JobPostChangedEvent(JobPostChangedEvent.Type.CREATED, 10L,
+            jobPost(4L, now.plusDays(30), JobStatus.SAVED)));
+        assertThat(scheduler.size()).isZero();
+    }
+
+    @Test
+    void bulkStatusChangesCancelAndReload() {
+        LocalDateTime closing = now.plusHours(30);
+        JobPostReminderTarget target = new JobPostReminderTarget(5L, 10L, "company", "title", closing);
+        when(jobPostRepository.findReminderTargets(eq(JobStatus.SAVED), any(), any())).thenReturn(List.of(target));
+        scheduler.extendHorizon();
+        assertThat(scheduler.size()).isEqualTo(1);
+
+        scheduler.onJobPostsStatusChanged(new JobPostsStatusChangedEvent(10L, Map.of(5L, JobStatus.SAVED), JobStatus.APPLIED, now));
+        assertThat(scheduler.size()).isZero();
+
+        // 다시 SAVED 가 되면 마감일을 읽어 예약한다.
+        when(jobPostRepository.findReminderTargetsByIdIn(List.of(5L), JobStatus.SAVED)).thenReturn(List.of(target));
+        scheduler.onJobPostsStatusChanged(new JobPostsStatusChangedEvent(10L, Map.of(5L, JobStatus.APPLIED), JobStatus.SAVED, now));
+        assertThat(scheduler.size()).isEqualTo(1);
+
+        scheduler.tick(millis(closing.minusHours(24).plusSeconds(1)));
+        assertThat(sink.getReminders()).extracting(ClosingReminder::getKind).containsExactly(ReminderKind.CLOSING_IN_24H);
+    }
+
+    private JobPost jobPost(Long id, LocalDateTime closingDateTime, JobStatus status) {
+        return JobPost.builder()
+            .id(id)
+            .companyName("company")
+            .title("title")
+            .closingDateTime(closingDateTime)
+            .status(status)
+            .build();
+    }
+
+    private long millis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
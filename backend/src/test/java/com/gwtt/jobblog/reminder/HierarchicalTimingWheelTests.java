@@ -0,0 +1,63 @@
+package com.gwtt.jobblog.reminder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTests {
+
+    private static final long TICK = 1000;
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void firesOnlyAfterDeadlineAndCancelsInConstantTime() {
+        HierarchicalTimingWheel<Long, String> wheel = new HierarchicalTimingWheel<>(TICK, 64, 4, START);
+        wheel.schedule(1L, START + 1500, "a");
+        wheel.schedule(2L, START + 3 * 3600_000L, "b");
+        wheel.schedule(3L, START + 10_000, "c");
+        wheel.cancel(3L);
+
+        assertThat(wheel.advance(START + 1000)).isEmpty();
+        assertThat(wheel.advance(START + 2000)).containsExactly("a");
+        assertThat(wheel.advance(START + 3 * 3600_000L - 1)).isEmpty();
+        assertThat(wheel.advance(START + 3 * 3600_000L)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void matchesBruteForceAcrossLevelsAndOverflow() {
+        // 2단계(16 틱)로 작게 만들어 단계 이동과 범위 초과를 자주 일으킨다.
+        HierarchicalTimingWheel<Integer, Integer> wheel = new HierarchicalTimingWheel<>(TICK, 4, 2, START);
+        Map<Integer, Long> deadlines = new HashMap<>();
+        Random random = new Random(7);
+        long now = START;
+
+        for (int step = 0; step < 20_000; step++) {
+            int op = random.nextInt(10);
+            int key = random.nextInt(300);
+            if (op < 5) {
+                long deadline = now - 2000 + (long) (random.nextDouble() * random.nextDouble() * 200_000);
+                wheel.schedule(key, deadline, key);
+                deadlines.put(key, deadline);
+            } else if (op < 6) {
+                assertThat(wheel.cancel(key)).isEqualTo(deadlines.remove(key) != null);
+            } else {
+                now += random.nextInt(op == 9 ? 60_000 : 3000);
+                long fireable = Math.floorDiv(now, TICK) * TICK;
+                for (int fired : wheel.advance(now)) {
+                    assertThat(deadlines.remove(fired)).isLessThanOrEqualTo(now);
+                }
+                List<Long> late = new ArrayList<>();
+                deadlines.values().stream().filter(deadline -> deadline <= fireable).forEach(late::add);
+                assertThat(late).isEmpty();
+            }
+            assertThat(wheel.size()).isEqualTo(deadlines.size());
+        }
+    }
+}
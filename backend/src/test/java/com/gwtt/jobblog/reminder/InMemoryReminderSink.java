@@ -0,0 +1,22 @@
+package com.gwtt.jobblog.reminder;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// 테스트에서 보낸 알림을 확인하기 위한 싱크
+public class InMemoryReminderSink implements ReminderSink {
+    private final List<ClosingReminder> reminders = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(ClosingReminder reminder) {
+        reminders.add(reminder);
+    }
+
+    public List<ClosingReminder> getReminders() {
+        return List.copyOf(reminders);
+    }
+
+    public void clear() {
+        reminders.clear();
+    }
+}
@@ -0,0 +1,110 @@
+package com.gwtt.jobblog.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.gwtt.jobblog.domain.JobStatus;
+import com.gwtt.jobblog.domain.User;
+import com.gwtt.jobblog.dto.JobPostExpiryResult;
+import com.gwtt.jobblog.dto.JobPostRequestDto;
+import com.gwtt.jobblog.dto.JobPostSimpleResponseDto;
+import com.gwtt.jobblog.repository.UserRepository;
+import com.gwtt.jobblog.service.JobPostService;
+import com.gwtt.jobblog.support.QueryCountExtension;
+import com.gwtt.jobblog.support.TestUsers;
+import com.gwtt.jobblog.util.QueryCounter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(QueryCountExtension.class)
+class JobPostExpiryJobTests {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JobPostService jobPostService;
+
+    @Test
+    void expiresPastDeadlineSavedPostsInSetBasedBatches(QueryCounter.Counts queries) {
+        User user = TestUsers.save(userRepository);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            jobPostService.createJobPost(request("closed " + i, now.minusDays(i + 1), JobStatus.SAVED), user);
+        }
+        Long applied = jobPostService.createJobPost(request("applied", now.minusDays(1), JobStatus.APPLIED), user);
+        Long open = jobPostService.createJobPost(request("open", now.plusDays(1), JobStatus.SAVED), user);
+
+        // 구간 인덱스를 적재해 두고 만료 이벤트로 갱신되는지 확인한다.
+        jobPostService.searchJobPosts(null, null, user);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JobPostExpiryJob job = new JobPostExpiryJob(jobPostService, meterRegistry, 2, Duration.ZERO, 1000);
+
+        queries.reset();
+        job.expire();
+
+        // 2 + 2 + 1 건, 배치마다 id 조회 한 번과 UPDATE 한 번
+        assertThat(queries.getSelectCount()).isEqualTo(3);
+        assertThat(queries.getUpdateCount()).isEqualTo(3);
+        assertThat(meterRegistry.get("jobpost.expiry.rows").summary().totalAmount()).isEqualTo(5);
+        assertThat(meterRegistry.get("jobpost.expiry.duration").timer().count()).isEqualTo(1);
+
+        Map<Long, JobPostSimpleResponseDto> jobPosts = jobPostService.searchJobPosts(null, null, user).stream()
+            .collect(Collectors.toMap(JobPostSimpleResponseDto::getId, jobPost -> jobPost));
+        assertThat(jobPosts.get(applied).getStatus()).isEqualTo(JobStatus.APPLIED);
+        assertThat(jobPosts.get(open).getStatus()).isEqualTo(JobStatus.SAVED);
+
+        List<JobPostSimpleResponseDto> expired = jobPosts.values().stream()
+            .filter(jobPost -> jobPost.getStatus() == JobStatus.EXPIRED)
+            .collect(Collectors.toList());
+        assertThat(expired).hasSize(5);
+        assertThat(expired).allSatisfy(jobPost -> assertThat(jobPost.getUpdatedAt()).isAfterOrEqualTo(now));
+    }
+
+    @Test
+    void keepsGoingWhileBatchesAreFullEvenIfSomeRowsWereChangedByUsers() {
+        JobPostService service = mock(JobPostService.class);
+        when(service.expireClosedJobPosts(any(), eq(2))).thenReturn(
+            new JobPostExpiryResult(2, 1),
+            new JobPostExpiryResult(2, 2),
+            new JobPostExpiryResult(1, 1));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new JobPostExpiryJob(service, meterRegistry, 2, Duration.ZERO, 1000).expire();
+
+        // 첫 배치에서 한 건을 사용자가 먼저 바꿨어도 조회한 건수가 가득 찼으므로 다음 배치로 넘어간다.
+        verify(service, times(3)).expireClosedJobPosts(any(), eq(2));
+        assertThat(meterRegistry.get("jobpost.expiry.rows").summary().totalAmount()).isEqualTo(4);
+    }
+
+    private JobPostRequestDto request(String title, LocalDateTime closingDateTime, JobStatus status) {
+        return JobPostRequestDto.builder()
+            .companyName("Jobblog")
+            .title(title)
+            .description("Spring Boot 백엔드 개발")
+            .applyUrl("https://careers.example.com/jobs/1")
+            .closingDateTime(closingDateTime)
+            .status(status)
+            .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.gwtt.jobblog.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.gwtt.jobblog.domain.RefreshToken;
+import com.gwtt.jobblog.repository.RefreshTokenRepository;
+import com.gwtt.jobblog.support.QueryCountExtension;
+import com.gwtt.jobblog.util.QueryCounter;
+
+// deleteExpiredBefore 는 MySQL 의 DELETE ... ORDER BY ... LIMIT 를 쓴다. H2 는 DELETE 에서 ORDER BY 를 해석하지 못하므로
+// MySQL 컨테이너를 띄워 확인한다. Docker 가 필요해 ./gradlew loadTest 로만 실행된다.
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+@Tag("load")
+@ExtendWith(QueryCountExtension.class)
+class RefreshTokenPurgeJobTests {
+
+    @Container
+    @ServiceConnection
+    static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository.deleteAll();
+    }
+
+    @Test
+    void purgesRowsExpiredBeforeCutoffInBatches(QueryCounter.Counts queries) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            store(now.minusDays(i + 1), false);
+        }
+        // 폐기하면 만료일도 폐기 시각으로 당겨진다.
+        for (int i = 0; i < 2; i++) {
+            store(now.minusMinutes(i + 1), true);
+        }
+        RefreshToken live = store(now.plusDays(14), false);
+        RefreshToken revokedLater = store(now.plusDays(1), true);
+
+        RefreshTokenPurgeJob job = new RefreshTokenPurgeJob(refreshTokenRepository, 2, Duration.ZERO, 1000);
+
+        queries.reset();
+        job.purge();
+
+        // 2 + 2 + 1 건, 마지막 배치가 batch-size 보다 작아 멈춘다.
+        assertThat(queries.getDeleteCount()).isEqualTo(3);
+        assertThat(refreshTokenRepository.findAll())
+            .extracting(RefreshToken::getId)
+            .containsExactlyInAnyOrder(live.getId(), revokedLater.getId());
+    }
+
+    @Test
+    void stopsAtMaxRowsPerRun(QueryCounter.Counts queries) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 6; i++) {
+            store(now.minusDays(i + 1), false);
+        }
+
+        RefreshTokenPurgeJob job = new RefreshTokenPurgeJob(refreshTokenRepository, 2, Duration.ZERO, 4);
+
+        queries.reset();
+        job.purge();
+
+        assertThat(queries.getDeleteCount()).isEqualTo(2);
+        assertThat(refreshTokenRepository.count()).isEqualTo(2);
+    }
+
+    private RefreshToken store(LocalDateTime expiryDate, boolean revoked) {
+        return refreshTokenRepository.save(RefreshToken.builder()
+            .jti(UUID.randomUUID().toString())
+            .refreshHash("hash")
+            .userId(1L)
+            .issuedAt(expiryDate.minusDays(14))
+            .expiryDate(expiryDate)
+            .revoked(revoked)
+            .tokenVersion(1)
+            .build());
+    }
+}
@@ -0,0 +1,64 @@
+package com.gwtt.jobblog.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.gwtt.jobblog.dto.GoogleUserResponse;
+import com.gwtt.jobblog.exceptions.ServiceUnavailableException;
+import com.gwtt.jobblog.support.StubGoogleOAuthServer;
+import com.gwtt.jobblog.util.CircuitBreaker;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GoogleOAuthClientTests {
+
+    @Test
+    void exchangesCodeAndFetchesUserInfo() throws Exception {
+        try (StubGoogleOAuthServer stub = StubGoogleOAuthServer.start(Duration.ZERO)) {
+            GoogleOAuthClient client = client(stub, Duration.ofSeconds(2), Duration.ofSeconds(30));
+            try {
+                String accessToken = client.exchangeCode("code").getAccessToken();
+                GoogleUserResponse user = client.fetchUserInfo(accessToken);
+
+                assertThat(accessToken).isEqualTo("stub-1");
+                assertThat(user.getId()).isEqualTo("1");
+                assertThat(user.getEmail()).isEqualTo("user1@example.com");
+            } finally {
+                client.destroy();
+            }
+        }
+    }
+
+    @Test
+    void opensCircuitAfterConsecutiveTimeouts() throws Exception {
+        try (StubGoogleOAuthServer stub = StubGoogleOAuthServer.start(Duration.ofMillis(500))) {
+            GoogleOAuthClient client = client(stub, Duration.ofMillis(100), Duration.ofSeconds(30));
+            try {
+                assertThatThrownBy(() -> client.exchangeCode("code")).isInstanceOf(ResourceAccessException.class);
+                assertThatThrownBy(() -> client.exchangeCode("code")).isInstanceOf(ResourceAccessException.class);
+                assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+                long issued = stub.getIssuedTokens();
+                assertThatThrownBy(() -> client.exchangeCode("code")).isInstanceOf(ServiceUnavailableException.class);
+                assertThat(stub.getIssuedTokens()).isEqualTo(issued);
+            } finally {
+                client.destroy();
+            }
+        }
+    }
+
+    private GoogleOAuthClient client(StubGoogleOAuthServer stub, Duration readTimeout, Duration openDuration) {
+        return new GoogleOAuthClient(new RestTemplateBuilder(), new SimpleMeterRegistry(),
+            "client-id", "client-secret", "http://localhost:3000/callback",
+            stub.tokenUri(), stub.userInfoUri(),
+            10, 5, Duration.ofSeconds(1), readTimeout, Duration.ofSeconds(1),
+            10, Duration.ofMillis(100),
+            2, openDuration);
+    }
+}
@@ -0,0 +1,170 @@
+package com.gwtt.jobblog.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.gwtt.jobblog.domain.RefreshToken;
+import com.gwtt.jobblog.domain.User;
+import com.gwtt.jobblog.exceptions.UnauthorizedException;
+import com.gwtt.jobblog.repository.RefreshTokenRepository;
+import com.gwtt.jobblog.repository.UserRepository;
+import com.gwtt.jobblog.support.TestUsers;
+import com.gwtt.jobblog.util.HashUtil;
+import com.gwtt.jobblog.util.IssuedRefreshToken;
+import com.gwtt.jobblog.util.JwtProvider;
+
+// refresh token 교체는 조건부 UPDATE 한 번의 영향받은 행 수로 성공 여부를 정한다.
+@SpringBootTest
+@ActiveProfiles("test")
+class GoogleOAuthServiceTests {
+
+    @Autowired
+    private GoogleOAuthService googleOAuthService;
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JwtProvider jwtProvider;
+    @Autowired
+    private HashUtil hashUtil;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = TestUsers.save(userRepository);
+    }
+
+    @Test
+    void rotatesRefreshTokenOnce() {
+        IssuedRefreshToken issued = jwtProvider.createRefreshToken(user.getId(), user.getTokenVersion(), 1);
+        RefreshToken stored = store(issued, hashUtil.hash(issued.getToken()), 1, LocalDateTime.now().plusDays(14));
+
+        Map<String, String> tokens = googleOAuthService.refreshToken(issued.getToken());
+
+        assertThat(refreshTokenRepository.findById(stored.getId()).orElseThrow().isRevoked()).isTrue();
+        assertThat(jwtProvider.verifyRefreshToken(tokens.get("refreshToken")).getSessionVersion()).isEqualTo(2);
+        assertThat(refreshTokenRepository.findAllByUserId(user.getId()))
+            .filteredOn(token -> !token.isRevoked())
+            .singleElement()
+            .satisfies(token -> {
+                assertThat(token.getTokenVersion()).isEqualTo(2);
+                assertThat(token.getRefreshHash()).isEqualTo(hashUtil.hash(tokens.get("refreshToken")));
+            });
+
+        assertThatThrownBy(() -> googleOAuthService.refreshToken(issued.getToken()))
+            .isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    void concurrentRotationsOfSameTokenHaveExactlyOneWinner() throws Exception {
+        IssuedRefreshToken issued = jwtProvider.createRefreshToken(user.getId(), user.getTokenVersion(), 1);
+        store(issued, hashUtil.hash(issued.getToken()), 1, LocalDateTime.now().plusDays(14));
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Map<String, String>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            for (int i = 0; i < 2; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return googleOAuthService.refreshToken(issued.getToken());
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            int unauthorized = 0;
+            for (Future<Map<String, String>> result : results) {
+                try {
+                    result.get();
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(UnauthorizedException.class);
+                    unauthorized++;
+                }
+            }
+            assertThat(succeeded).isEqualTo(1);
+            assertThat(unauthorized).isEqualTo(1);
+        }
+
+        assertThat(refreshTokenRepository.findAllByUserId(user.getId())).filteredOn(token -> !token.isRevoked()).hasSize(1);
+    }
+
+    @Test
+    void rejectsWrongHash() {
+        IssuedRefreshToken issued = jwtProvider.createRefreshToken(user.getId(), user.getTokenVersion(), 1);
+        RefreshToken stored = store(issued, hashUtil.hash("another-refresh-token"), 1, LocalDateTime.now().plusDays(14));
+
+        assertNotRotated(issued, stored);
+    }
+
+    @Test
+    void rejectsWrongSessionVersion() {
+        IssuedRefreshToken issued = jwtProvider.createRefreshToken(user.getId(), user.getTokenVersion(), 1);
+        RefreshToken stored = store(issued, hashUtil.hash(issued.getToken()), 2, LocalDateTime.now().plusDays(14));
+
+        assertNotRotated(issued, stored);
+    }
+
+    @Test
+    void rejectsExpiredRow() {
+        IssuedRefreshToken issued = jwtProvider.createRefreshToken(user.getId(), user.getTokenVersion(), 1);
+        RefreshToken stored = store(issued, hashUtil.hash(issued.getToken()), 1, LocalDateTime.now().minusMinutes(1));
+
+        assertNotRotated(issued, stored);
+    }
+
+    @Test
+    void rejectsDuplicateJti() {
+        IssuedRefreshToken issued = jwtProvider.createRefreshToken(user.getId(), user.getTokenVersion(), 1);
+        store(issued, hashUtil.hash(issued.getToken()), 1, LocalDateTime.now().plusDays(14));
+
+        assertThatThrownBy(() -> store(issued, hashUtil.hash(issued.getToken()), 2, LocalDateTime.now().plusDays(14)))
+            .isInstanceOf(DataIntegrityViolationException.class)
+            .satisfies(e -> assertThat(NestedExceptionUtils.getMostSpecificCause(e).getMessage())
+                .containsIgnoringCase("uk_refresh_token_jti"));
+    }
+
+    // 0 건이 갱신되어 401 이 나고, 저장된 행은 그대로 남는다.
+    private void assertNotRotated(IssuedRefreshToken issued, RefreshToken stored) {
+        assertThatThrownBy(() -> googleOAuthService.refreshToken(issued.getToken()))
+            .isInstanceOf(UnauthorizedException.class)
+            .hasMessage("Refresh token revoked or expired");
+
+        RefreshToken reloaded = refreshTokenRepository.findById(stored.getId()).orElseThrow();
+        assertThat(reloaded.isRevoked()).isFalse();
+        assertThat(reloaded.getEntityVersion()).isEqualTo(stored.getEntityVersion());
+        assertThat(refreshTokenRepository.findAllByUserId(user.getId())).hasSize(1);
+    }
+
+    private RefreshToken store(IssuedRefreshToken issued, String refreshHash, int tokenVersion, LocalDateTime expiryDate) {
+        return refreshTokenRepository.saveAndFlush(RefreshToken.builder()
+            .jti(issued.getJti())
+            .refreshHash(refreshHash)
+            .userId(user.getId())
+            .issuedAt(LocalDateTime.now())
+            .expiryDate(expiryDate)
+            .revoked(false)
+            .tokenVersion(tokenVersion)
+            .build());
+    }
+}
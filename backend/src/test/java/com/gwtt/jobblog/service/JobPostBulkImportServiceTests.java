@@ -0,0 +1,171 @@
+package com.gwtt.jobblog.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gwtt.jobblog.domain.JobStatus;
+import com.gwtt.jobblog.domain.User;
+import com.gwtt.jobblog.dto.JobPostBulkImportResponseDto;
+import com.gwtt.jobblog.dto.JobPostBulkImportRowResultDto;
+import com.gwtt.jobblog.dto.JobPostRequestDto;
+import com.gwtt.jobblog.dto.JobPostSimpleResponseDto;
+import com.gwtt.jobblog.exceptions.InvalidArgumentException;
+import com.gwtt.jobblog.repository.JobPostRepository;
+import com.gwtt.jobblog.repository.UserRepository;
+import com.gwtt.jobblog.support.QueryCountExtension;
+import com.gwtt.jobblog.support.TestUsers;
+import com.gwtt.jobblog.util.QueryCounter;
+
+@SpringBootTest(properties = {"jobpost.bulk.batch-size=50", "jobpost.bulk.max-rows=150"})
+@ActiveProfiles("test")
+@ExtendWith(QueryCountExtension.class)
+class JobPostBulkImportServiceTests {
+
+    @Autowired
+    private JobPostBulkImportService jobPostBulkImportService;
+    @Autowired
+    private JobPostService jobPostService;
+    @Autowired
+    private JobPostRepository jobPostRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = TestUsers.save(userRepository);
+    }
+
+    @Test
+    void savesValidRowsInJdbcBatchesAndReportsInvalidRows(QueryCounter.Counts queries) throws Exception {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            rows.add(row("Backend Engineer " + i));
+        }
+        rows.add(3, row(" "));
+        Map<String, Object> tooLong = row("Platform Engineer");
+        tooLong.put("description", "x".repeat(4097));
+        rows.add(7, tooLong);
+        Map<String, Object> unknownStatus = row("Data Engineer");
+        unknownStatus.put("status", "UNKNOWN");
+        rows.add(11, unknownStatus);
+
+        queries.reset();
+        JobPostBulkImportResponseDto response = jobPostBulkImportService.importJson(json(rows), user);
+
+        assertThat(response.getTotal()).isEqualTo(123);
+        assertThat(response.getSucceeded()).isEqualTo(120);
+        assertThat(response.getFailed()).isEqualTo(3);
+
+        List<JobPostBulkImportRowResultDto> results = response.getResults();
+        assertThat(results).extracting(JobPostBulkImportRowResultDto::getIndex).containsExactlyElementsOf(range(123));
+        assertThat(results.get(3).getError()).contains("title");
+        assertThat(results.get(7).getError()).contains("description");
+        assertThat(results.get(11).getError()).isEqualTo("JSON 형식이 올바르지 않습니다.");
+        assertThat(results.get(0).getId()).isNotNull();
+        assertThat(results.get(3).getId()).isNull();
+
+        // 120건을 batch-size 50 으로 나눠 50 + 50 + 20 세 번의 JDBC 배치로 보낸다.
+        assertThat(queries.getInsertCount()).isEqualTo(3);
+        assertThat(jobPostRepository.findAllSimpleByUserId(user.getId())).hasSize(120);
+    }
+
+    @Test
+    void parsesNdjsonLineByLine() throws Exception {
+        String body = objectMapper.writeValueAsString(row("Backend Engineer")) + "\n"
+            + "\n"
+            + "{\"companyName\": \"Jobblog\", \"title\":\n"
+            + objectMapper.writeValueAsString(row("Frontend Engineer")) + "\n";
+
+        JobPostBulkImportResponseDto response = jobPostBulkImportService.importNdjson(stream(body), user);
+
+        // 빈 줄은 건너뛰고, 깨진 줄만 실패로 기록한다.
+        assertThat(response.getTotal()).isEqualTo(3);
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getResults().get(1).getError()).isEqualTo("JSON 형식이 올바르지 않습니다.");
+        assertThat(response.getResults().get(2).getId()).isNotNull();
+    }
+
+    @Test
+    void rejectsRequestsOverMaxRowsWhileReading() throws Exception {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 151; i++) {
+            rows.add(row("Backend Engineer " + i));
+            ndjson.append(objectMapper.writeValueAsString(row("Backend Engineer " + i))).append('\n');
+        }
+
+        assertThatThrownBy(() -> jobPostBulkImportService.importJson(json(rows), user))
+            .isInstanceOf(InvalidArgumentException.class);
+        assertThatThrownBy(() -> jobPostBulkImportService.importNdjson(stream(ndjson.toString()), user))
+            .isInstanceOf(InvalidArgumentException.class);
+        assertThat(jobPostRepository.findAllSimpleByUserId(user.getId())).isEmpty();
+    }
+
+    @Test
+    void rejectsMalformedJsonArrays() {
+        assertThatThrownBy(() -> jobPostBulkImportService.importJson(stream("{\"title\": \"x\"}"), user))
+            .isInstanceOf(InvalidArgumentException.class);
+        assertThatThrownBy(() -> jobPostBulkImportService.importJson(stream("[{\"title\": \"x\"}"), user))
+            .isInstanceOf(InvalidArgumentException.class);
+        assertThatThrownBy(() -> jobPostBulkImportService.importJson(stream("[]"), user))
+            .isInstanceOf(InvalidArgumentException.class);
+    }
+
+    @Test
+    void defaultsMissingStatusToSavedLikeSingleCreate() throws Exception {
+        jobPostBulkImportService.importJson(json(List.of(row("Backend Engineer"))), user);
+        jobPostService.createJobPost(JobPostRequestDto.builder()
+            .companyName("Jobblog")
+            .title("Frontend Engineer")
+            .build(), user);
+
+        assertThat(jobPostRepository.findAllSimpleByUserId(user.getId()))
+            .extracting(JobPostSimpleResponseDto::getStatus)
+            .containsExactly(JobStatus.SAVED, JobStatus.SAVED);
+    }
+
+    private Map<String, Object> row(String title) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("companyName", "Jobblog");
+        row.put("title", title);
+        row.put("description", "Spring Boot 백엔드 개발");
+        row.put("closingDateTime", "2030-01-01T00:00:00");
+        return row;
+    }
+
+    private InputStream json(List<Map<String, Object>> rows) throws Exception {
+        return new ByteArrayInputStream(objectMapper.writeValueAsBytes(rows));
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<Integer> range(int size) {
+        List<Integer> indexes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            indexes.add(i);
+        }
+        return indexes;
+    }
+}
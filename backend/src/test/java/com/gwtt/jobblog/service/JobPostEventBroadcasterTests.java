@@ -0,0 +1,114 @@
+package com.gwtt.jobblog.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.gwtt.jobblog.domain.JobPost;
+import com.gwtt.jobblog.domain.JobStatus;
+import com.gwtt.jobblog.event.JobPostChangedEvent;
+
+class JobPostEventBroadcasterTests {
+
+    private final JobPostEventBroadcaster broadcaster = new JobPostEventBroadcaster(2, Duration.ofMinutes(10), Duration.ofMinutes(30));
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    @Test
+    void fansOutOnlyToTheOwnersSubscribers() throws Exception {
+        RecordingEmitter first = new RecordingEmitter(new CountDownLatch(0));
+        RecordingEmitter second = new RecordingEmitter(new CountDownLatch(0));
+        RecordingEmitter other = new RecordingEmitter(new CountDownLatch(0));
+        broadcaster.register(1L, first);
+        broadcaster.register(1L, second);
+        broadcaster.register(2L, other);
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(3);
+
+        broadcaster.onJobPostChanged(new JobPostChangedEvent(JobPostChangedEvent.Type.CREATED, 1L, jobPost(10L)));
+
+        await(() -> first.events().contains("jobpost") && second.events().contains("jobpost"));
+        assertThat(first.events()).containsExactlyInAnyOrder("heartbeat", "jobpost");
+        assertThat(other.events()).containsExactly("heartbeat");
+    }
+
+    @Test
+    void slowSubscriberGetsResyncInsteadOfUnboundedBuffering() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        broadcaster.register(1L, slow);
+        assertThat(slow.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 첫 전송(heartbeat)이 막혀 있는 동안 버퍼(2)보다 많은 알림이 온다.
+        for (long id = 1; id <= 5; id++) {
+            broadcaster.onJobPostChanged(new JobPostChangedEvent(JobPostChangedEvent.Type.UPDATED, 1L, jobPost(id)));
+        }
+        release.countDown();
+
+        await(() -> slow.events().size() == 4);
+        assertThat(slow.events()).containsExactly("heartbeat", "resync", "jobpost", "jobpost");
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private JobPost jobPost(Long id) {
+        return JobPost.builder()
+            .id(id)
+            .companyName("Jobblog")
+            .title("Backend Engineer")
+            .status(JobStatus.SAVED)
+            .closingDateTime(LocalDateTime.now().plusDays(7))
+            .build();
+    }
+
+    // 보낸 이벤트 이름(주석은 "heartbeat")을 기록한다. release 가 열릴 때까지 보내기를 막아 느린 구독자를 흉내 낸다.
+    private static class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch release;
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            frames.add(builder.build().stream()
+                .map(part -> String.valueOf(part.getData()))
+                .collect(Collectors.joining()));
+        }
+
+        List<String> events() {
+            return frames.stream()
+                .map(frame -> frame.startsWith(":") ? "heartbeat" : frame.replaceAll("(?s).*event:(\\w+).*", "$1"))
+                .collect(Collectors.toList());
+        }
+    }
+}
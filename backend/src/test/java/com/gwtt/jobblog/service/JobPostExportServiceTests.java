@@ -0,0 +1,109 @@
+package com.gwtt.jobblog.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gwtt.jobblog.domain.JobPost;
+import com.gwtt.jobblog.domain.JobStatus;
+import com.gwtt.jobblog.domain.User;
+import com.gwtt.jobblog.dto.JobPostExportFormat;
+import com.gwtt.jobblog.repository.JobPostRepository;
+import com.gwtt.jobblog.repository.UserRepository;
+import com.gwtt.jobblog.support.TestUsers;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JobPostExportServiceTests {
+
+    @Autowired
+    private JobPostExportService jobPostExportService;
+    @Autowired
+    private JobPostRepository jobPostRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = TestUsers.save(userRepository);
+    }
+
+    @Test
+    void writesCsvWithBomHeaderAndQuotedColumns() throws Exception {
+        JobPost jobPost = save("Acme, Inc.", "Say \"hi\"", "첫 줄\n둘째 줄", "=HYPERLINK(\"http://example.com\")");
+
+        String csv = export(JobPostExportFormat.CSV);
+
+        assertThat(csv).startsWith("\uFEFFid,companyName,title,description,applyUrl,closingDateTime,status,createdAt,updatedAt\r\n");
+        assertThat(csv).contains(jobPost.getId() + ",\"Acme, Inc.\",\"Say \"\"hi\"\"\",\"첫 줄\n둘째 줄\",\"'=HYPERLINK(\"\"http://example.com\"\")\",");
+        assertThat(csv).contains(",SAVED,");
+        assertThat(csv).endsWith("\r\n");
+    }
+
+    @Test
+    void writesOneJsonObjectPerLine() throws Exception {
+        save("Jobblog", "Backend Engineer", "Spring Boot\n백엔드", null);
+        save("Jobblog", "Frontend Engineer", null, "https://example.com/apply");
+
+        String ndjson = export(JobPostExportFormat.NDJSON);
+
+        assertThat(ndjson).doesNotStartWith("\uFEFF").endsWith("\n");
+        List<String> lines = ndjson.lines().toList();
+        assertThat(lines).hasSize(2);
+
+        // 최신 공고부터 내보낸다. 본문의 줄바꿈은 JSON 안에서 이스케이프되어 한 줄을 유지한다.
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertThat(first.get("title").asText()).isEqualTo("Frontend Engineer");
+        assertThat(first.get("applyUrl").asText()).isEqualTo("https://example.com/apply");
+        assertThat(second.get("description").asText()).isEqualTo("Spring Boot\n백엔드");
+        assertThat(second.get("status").asText()).isEqualTo("SAVED");
+        assertThat(second.has("id")).isTrue();
+        assertThat(second.has("createdAt")).isTrue();
+    }
+
+    @Test
+    void neutralisesSpreadsheetFormulas() {
+        assertThat(JobPostExportService.escapeCsv("=1+1")).isEqualTo("'=1+1");
+        assertThat(JobPostExportService.escapeCsv("+82 10")).isEqualTo("'+82 10");
+        assertThat(JobPostExportService.escapeCsv("-2")).isEqualTo("'-2");
+        assertThat(JobPostExportService.escapeCsv("@SUM(A1:A2)")).isEqualTo("'@SUM(A1:A2)");
+        assertThat(JobPostExportService.escapeCsv("\tcmd")).isEqualTo("'\tcmd");
+        assertThat(JobPostExportService.escapeCsv("=A1,B1")).isEqualTo("\"'=A1,B1\"");
+        assertThat(JobPostExportService.escapeCsv("a=b")).isEqualTo("a=b");
+        assertThat(JobPostExportService.escapeCsv(null)).isEmpty();
+    }
+
+    private JobPost save(String companyName, String title, String description, String applyUrl) {
+        return jobPostRepository.save(JobPost.builder()
+            .companyName(companyName)
+            .title(title)
+            .description(description)
+            .applyUrl(applyUrl)
+            .closingDateTime(LocalDateTime.now().plusDays(30))
+            .status(JobStatus.SAVED)
+            .user(user)
+            .build());
+    }
+
+    private String export(JobPostExportFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jobPostExportService.export(user.getId(), format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,116 @@
+package com.gwtt.jobblog.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.gwtt.jobblog.dto.JobPostSimpleResponseDto;
+
+class JobPostIntervalIndexTests {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    void overlappingMatchesRepositoryPredicate() {
+        Random random = new Random(42);
+        List<JobPostSimpleResponseDto> jobPosts = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            LocalDateTime createdAt = BASE.plusHours(random.nextInt(24 * 365));
+            LocalDateTime closingDateTime = id % 50 == 0 ? null : createdAt.plusHours(random.nextInt(24 * 60));
+            jobPosts.add(jobPost(id, createdAt, closingDateTime));
+        }
+
+        JobPostIntervalIndex.IntervalTree tree = JobPostIntervalIndex.IntervalTree.of(jobPosts);
+
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime start = BASE.plusHours(random.nextInt(24 * 400));
+            LocalDateTime end = start.plusHours(random.nextInt(24 * 31));
+
+            assertThat(ids(tree.overlapping(start, end))).containsExactlyInAnyOrderElementsOf(ids(bruteForce(jobPosts, start, end)));
+        }
+
+        assertThat(ids(tree.overlapping(LocalDateTime.MIN, LocalDateTime.MAX))).hasSize(490);
+    }
+
+    @Test
+    void putAndRemoveReplaceEntries() {
+        JobPostIntervalIndex.IntervalTree tree = JobPostIntervalIndex.IntervalTree.of(List.of(
+            jobPost(1L, BASE, BASE.plusDays(10)),
+            jobPost(2L, BASE.plusDays(20), BASE.plusDays(30))));
+
+        LocalDateTime start = BASE.plusDays(5);
+        LocalDateTime end = BASE.plusDays(6);
+        assertThat(ids(tree.overlapping(start, end))).containsExactly(1L);
+
+        tree.put(jobPost(1L, BASE, BASE.plusDays(2)));
+        assertThat(tree.overlapping(start, end)).isEmpty();
+
+        tree.put(jobPost(3L, BASE.plusDays(1), BASE.plusDays(7)));
+        assertThat(ids(tree.overlapping(start, end))).containsExactly(3L);
+
+        // 같은 공고의 createdAt 정밀도가 달라도 id 로 기존 노드를 지운다.
+        tree.put(jobPost(3L, BASE.plusDays(1).plusNanos(123), BASE.plusDays(8)));
+        assertThat(tree.size()).isEqualTo(3);
+
+        tree.remove(3L);
+        assertThat(tree.overlapping(start, end)).isEmpty();
+        assertThat(tree.size()).isEqualTo(2);
+    }
+
+    @Test
+    void incrementalChangesMatchRepositoryPredicate() {
+        Random random = new Random(7);
+        Map<Long, JobPostSimpleResponseDto> expected = new HashMap<>();
+        JobPostIntervalIndex.IntervalTree tree = JobPostIntervalIndex.IntervalTree.of(List.of());
+
+        for (int i = 0; i < 3000; i++) {
+            long id = 1 + random.nextInt(300);
+            if (random.nextInt(4) == 0) {
+                expected.remove(id);
+                tree.remove(id);
+            } else {
+                LocalDateTime createdAt = BASE.plusHours(random.nextInt(24 * 365));
+                JobPostSimpleResponseDto jobPost = jobPost(id, createdAt, createdAt.plusHours(random.nextInt(24 * 60)));
+                expected.put(id, jobPost);
+                tree.put(jobPost);
+            }
+
+            if (i % 100 == 0) {
+                LocalDateTime start = BASE.plusHours(random.nextInt(24 * 400));
+                LocalDateTime end = start.plusHours(random.nextInt(24 * 31));
+                assertThat(ids(tree.overlapping(start, end)))
+                    .containsExactlyInAnyOrderElementsOf(ids(bruteForce(List.copyOf(expected.values()), start, end)));
+            }
+        }
+
+        assertThat(tree.size()).isEqualTo(expected.size());
+    }
+
+    private static List<JobPostSimpleResponseDto> bruteForce(List<JobPostSimpleResponseDto> jobPosts, LocalDateTime start, LocalDateTime end) {
+        return jobPosts.stream()
+            .filter(jobPost -> jobPost.getClosingDateTime() != null)
+            .filter(jobPost -> !jobPost.getClosingDateTime().isBefore(start) && !jobPost.getCreatedAt().isAfter(end))
+            .collect(Collectors.toList());
+    }
+
+    private static List<Long> ids(List<JobPostSimpleResponseDto> jobPosts) {
+        return jobPosts.stream().map(JobPostSimpleResponseDto::getId).collect(Collectors.toList());
+    }
+
+    private static JobPostSimpleResponseDto jobPost(Long id, LocalDateTime createdAt, LocalDateTime closingDateTime) {
+        return JobPostSimpleResponseDto.builder()
+            .id(id)
+            .createdAt(createdAt)
+            .closingDateTime(closingDateTime)
+            .updatedAt(createdAt)
+            .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.gwtt.jobblog.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.gwtt.jobblog.domain.JobPost;
+import com.gwtt.jobblog.domain.JobStatus;
+import com.gwtt.jobblog.dto.JobPostStatsResponseDto;
+import com.gwtt.jobblog.dto.JobPostStatusCount;
+import com.gwtt.jobblog.event.JobPostChangedEvent;
+import com.gwtt.jobblog.event.JobPostsStatusChangedEvent;
+import com.gwtt.jobblog.repository.JobPostRepository;
+
+class JobPostStatsCounterTests {
+
+    private static final Long USER_ID = 1L;
+
+    private final JobPostRepository jobPostRepository = mock(JobPostRepository.class);
+    private final JobPostStatsCounter statsCounter = new JobPostStatsCounter(jobPostRepository, 100, Duration.ofMinutes(30), Duration.ofMinutes(10));
+    private final LocalDateTime now = LocalDateTime.now();
+    private final LocalDateTime lastWeek = JobPostStatsCounter.weekStart(LocalDate.now()).minusDays(1);
+
+    @Test
+    void eventsAdjustCountersWithoutQuerying() {
+        when(jobPostRepository.countByStatus(eq(USER_ID), any())).thenReturn(List.of(
+            new JobPostStatusCount(JobStatus.SAVED, 3L, 1L),
+            new JobPostStatusCount(JobStatus.APPLIED, 2L, 1L)));
+
+        JobPostStatsResponseDto stats = statsCounter.getStats(USER_ID);
+        assertThat(stats.getSaved()).isEqualTo(3);
+        assertThat(stats.getApplied()).isEqualTo(2);
+        assertThat(stats.getTotal()).isEqualTo(5);
+        assertThat(stats.getAppliedThisWeek()).isEqualTo(1);
+
+        JobPost created = jobPost(10L, JobStatus.SAVED, now);
+        statsCounter.onJobPostChanged(new JobPostChangedEvent(JobPostChangedEvent.Type.CREATED, USER_ID, created));
+
+        // SAVED -> APPLIED 는 이번 주 지원으로 센다.
+        statsCounter.onJobPostChanged(new JobPostChangedEvent(JobPostChangedEvent.Type.UPDATED, USER_ID,
+            jobPost(10L, JobStatus.APPLIED, now), JobStatus.SAVED, now));
+
+        // 지난주에 지원한 공고가 면접으로 바뀌면 이번 주 지원 수는 그대로다.
+        statsCounter.onJobPostChanged(new JobPostChangedEvent(JobPostChangedEvent.Type.UPDATED, USER_ID,
+            jobPost(11L, JobStatus.INTERVIEWED, now), JobStatus.APPLIED, lastWeek));
+
+        // 지난주에 지원한 공고를 이번 주에 수정해도(updatedAt 이 바뀌어도) 이번 주 지원으로 세지 않는다.
+        statsCounter.onJobPostChanged(new JobPostChangedEvent(JobPostChangedEvent.Type.UPDATED, USER_ID,
+            jobPost(14L, JobStatus.APPLIED, lastWeek), JobStatus.APPLIED, lastWeek));
+
+        statsCounter.onJobPostChanged(new JobPostChangedEvent(JobPostChangedEvent.Type.DELETED, USER_ID,
+            jobPost(12L, JobStatus.SAVED, lastWeek)));
+
+        statsCounter.onJobPostsStatusChanged(new JobPostsStatusChangedEvent(USER_ID,
+            Map.of(13L, JobStatus.SAVED), JobStatus.EXPIRED, now));
+
+        stats = statsCounter.getStats(USER_ID);
+        assertThat(stats.getSaved()).isEqualTo(1);
+        assertThat(stats.getApplied()).isEqualTo(2);
+        assertThat(stats.getInterviewed()).isEqualTo(1);
+        assertThat(stats.getExpired()).isEqualTo(1);
+        assertThat(stats.getTotal()).isEqualTo(5);
+        assertThat(stats.getAppliedThisWeek()).isEqualTo(2);
+        verify(jobPostRepository, times(1)).countByStatus(eq(USER_ID), any());
+    }
+
+    @Test
+    void bulkChangeFromAppliedReconcilesWithGroupBy() {
+        when(jobPostRepository.countByStatus(eq(USER_ID), any()))
+            .thenReturn(List.of(new JobPostStatusCount(JobStatus.APPLIED, 2L, 2L)))
+            .thenReturn(List.of(
+                new JobPostStatusCount(JobStatus.APPLIED, 1L, 1L),
+                new JobPostStatusCount(JobStatus.REJECTED, 1L, 1L)));
+
+        assertThat(statsCounter.getStats(USER_ID).getAppliedThisWeek()).isEqualTo(2);
+
+        statsCounter.onJobPostsStatusChanged(new JobPostsStatusChangedEvent(USER_ID,
+            Map.of(20L, JobStatus.APPLIED), JobStatus.REJECTED, now));
+
+        JobPostStatsResponseDto stats = statsCounter.getStats(USER_ID);
+        assertThat(stats.getApplied()).isEqualTo(1);
+        assertThat(stats.getRejected()).isEqualTo(1);
+        assertThat(stats.getAppliedThisWeek()).isEqualTo(1);
+        verify(jobPostRepository, times(2)).countByStatus(eq(USER_ID), any());
+    }
+
+    private JobPost jobPost(Long id, JobStatus status, LocalDateTime appliedAt) {
+        return JobPost.builder()
+            .id(id)
+            .status(status)
+            .updatedAt(now)
+            .appliedAt(appliedAt)
+            .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.gwtt.jobblog.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.gwtt.jobblog.util.TextTokenizer;
+
+class JobPostTextIndexTests {
+
+    private JobPostTextIndex.UserIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobPostTextIndex.UserIndex();
+        index.put(1L, JobPostTextIndex.terms("카카오뱅크", "백엔드 개발자", "Java Spring 서버 개발"));
+        index.put(2L, JobPostTextIndex.terms("네이버", "프론트엔드 개발자", "React TypeScript"));
+        index.put(3L, JobPostTextIndex.terms("토스", "Server Developer", "Kotlin spring boot 백엔드"));
+    }
+
+    @Test
+    void tokenizesHangulIntoBigramsAndLatinIntoWords() {
+        assertThat(TextTokenizer.tokenize("카카오뱅크 Backend(Java)"))
+            .containsExactly("카카", "카오", "오뱅", "뱅크", "backend", "java");
+    }
+
+    @Test
+    void ranksTitleMatchesAboveDescriptionMatches() {
+        assertThat(search("백엔드")).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void matchesPrefixesAndRequiresEveryToken() {
+        assertThat(search("spr")).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(search("react 네이버")).containsExactly(2L);
+        assertThat(search("react 카카오")).isEmpty();
+    }
+
+    @Test
+    void capsPrefixExpansionsByDocumentFrequency() {
+        Map<String, Float> terms = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            terms.put("stack" + i, 1f);
+        }
+        index.put(4L, terms);
+        index.put(5L, Map.of("stackz", 1f));
+        index.put(6L, Map.of("stackz", 1f));
+        index.put(7L, Map.of("stacky", 1f));
+
+        // 100 개가 넘는 확장 중 빈도가 높은 stackz 와 사전 순으로 앞선 단어들만 점수에 쓰인다. 사전 순으로 뒤인 stacky 는 잘린다.
+        assertThat(search("stack")).containsExactlyInAnyOrder(4L, 5L, 6L);
+        assertThat(search("stacky")).containsExactly(7L);
+    }
+
+    @Test
+    void doesNotExpandSingleCharacterTokens() {
+        index.put(4L, Map.of("r", 1f));
+
+        assertThat(search("r")).containsExactly(4L);
+        assertThat(search("s")).isEmpty();
+    }
+
+    @Test
+    void appliesIncrementalUpdates() {
+        index.remove(1L);
+        assertThat(search("백엔드")).containsExactly(3L);
+
+        index.put(3L, JobPostTextIndex.terms("토스", "Server Developer", "Kotlin"));
+        assertThat(search("백엔드")).isEmpty();
+    }
+
+    private List<Long> search(String query) {
+        return index.search(new ArrayList<>(new LinkedHashSet<>(TextTokenizer.tokenize(query))), 10);
+    }
+}
@@ -0,0 +1,126 @@
+package com.gwtt.jobblog.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.gwtt.jobblog.event.RefreshTokensRevokedEvent;
+import com.gwtt.jobblog.exceptions.UnauthorizedException;
+import com.gwtt.jobblog.util.JwtProvider;
+import com.gwtt.jobblog.util.RefreshTokenClaims;
+
+class RefreshTokenCoalescerTests {
+
+    private final JwtProvider jwtProvider = new JwtProvider("jobblog-test",
+        "test-access-secret-key-0123456789abcdef", "test-refresh-secret-key-0123456789abcdef");
+    private final GoogleOAuthService googleOAuthService = mock(GoogleOAuthService.class);
+    private final RefreshTokenCoalescer coalescer = new RefreshTokenCoalescer(googleOAuthService, jwtProvider,
+        Duration.ofSeconds(10), Duration.ofSeconds(5), 1000);
+
+    @Test
+    void concurrentRefreshesShareOneRotation() throws Exception {
+        String refreshToken = jwtProvider.createRefreshToken(1L, 0, 1).getToken();
+        Map<String, String> rotated = rotated(refreshToken);
+        when(googleOAuthService.refreshToken(refreshToken)).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return rotated;
+        });
+
+        int tabs = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Map<String, String>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(tabs)) {
+            for (int i = 0; i < tabs; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return coalescer.refresh(refreshToken);
+                }));
+            }
+            start.countDown();
+            for (Future<Map<String, String>> result : results) {
+                assertThat(result.get()).isEqualTo(rotated);
+            }
+        }
+
+        // grace 안에 늦게 도착한 요청도 같은 결과를 받는다.
+        assertThat(coalescer.refresh(refreshToken)).isEqualTo(rotated);
+        verify(googleOAuthService, times(1)).refreshToken(anyString());
+    }
+
+    @Test
+    void failedRotationIsNotShared() {
+        String refreshToken = jwtProvider.createRefreshToken(1L, 0, 1).getToken();
+        Map<String, String> rotated = rotated(refreshToken);
+        when(googleOAuthService.refreshToken(refreshToken))
+            .thenThrow(new RuntimeException("temporary failure"))
+            .thenReturn(rotated);
+
+        assertThatThrownBy(() -> coalescer.refresh(refreshToken)).hasMessage("temporary failure");
+        assertThat(coalescer.refresh(refreshToken)).isEqualTo(rotated);
+    }
+
+    @Test
+    void logoutEvictsRotationsOfRevokedToken() {
+        String refreshToken = jwtProvider.createRefreshToken(1L, 0, 1).getToken();
+        Map<String, String> rotated = rotated(refreshToken);
+        when(googleOAuthService.refreshToken(refreshToken))
+            .thenReturn(rotated)
+            .thenThrow(new UnauthorizedException("Refresh token revoked or expired"));
+
+        assertThat(coalescer.refresh(refreshToken)).isEqualTo(rotated);
+
+        // 교체로 받은 새 토큰으로 로그아웃하면, 이전 토큰을 든 탭도 grace 안에 결과를 다시 받지 못한다.
+        String rotatedJti = jwtProvider.verifyRefreshToken(rotated.get("refreshToken")).getJti();
+        coalescer.onRefreshTokensRevoked(new RefreshTokensRevokedEvent(1L, rotatedJti));
+
+        assertThatThrownBy(() -> coalescer.refresh(refreshToken)).isInstanceOf(UnauthorizedException.class);
+        verify(googleOAuthService, times(2)).refreshToken(anyString());
+    }
+
+    @Test
+    void invalidatingUserTokensEvictsAllRotationsOfUser() {
+        String refreshToken = jwtProvider.createRefreshToken(1L, 0, 1).getToken();
+        String otherUserToken = jwtProvider.createRefreshToken(2L, 0, 1).getToken();
+        Map<String, String> rotated = rotated(refreshToken);
+        Map<String, String> otherRotated = rotated(otherUserToken);
+        when(googleOAuthService.refreshToken(refreshToken))
+            .thenReturn(rotated)
+            .thenThrow(new UnauthorizedException("Invalid user version"));
+        when(googleOAuthService.refreshToken(otherUserToken)).thenReturn(otherRotated);
+
+        coalescer.refresh(refreshToken);
+        coalescer.refresh(otherUserToken);
+        coalescer.onRefreshTokensRevoked(new RefreshTokensRevokedEvent(1L, null));
+
+        assertThatThrownBy(() -> coalescer.refresh(refreshToken)).isInstanceOf(UnauthorizedException.class);
+        assertThat(coalescer.refresh(otherUserToken)).isEqualTo(otherRotated);
+        verify(googleOAuthService, times(1)).refreshToken(otherUserToken);
+    }
+
+    @Test
+    void rejectsForgedTokenBeforeCoalescing() {
+        assertThatThrownBy(() -> coalescer.refresh("not-a-jwt")).isInstanceOf(UnauthorizedException.class);
+        verify(googleOAuthService, times(0)).refreshToken(anyString());
+    }
+
+    private Map<String, String> rotated(String refreshToken) {
+        RefreshTokenClaims claims = jwtProvider.verifyRefreshToken(refreshToken);
+        return Map.of("accessToken", "new-access",
+            "refreshToken", jwtProvider.createRefreshToken(claims.getUserId(), claims.getUserVersion(), claims.getSessionVersion() + 1).getToken());
+    }
+}
@@ -0,0 +1,38 @@
+package com.gwtt.jobblog.support;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+import com.gwtt.jobblog.util.QueryCounter;
+
+// 테스트 메서드마다 QueryCounter 를 시작하고, QueryCounter.Counts 파라미터로 주입한다.
+// MockMvc 요청은 테스트 스레드에서 실행되므로 요청 중의 SQL 도 함께 센다.
+public class QueryCountExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryCountExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), QueryCounter.start());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        QueryCounter.Counts counts = context.getStore(NAMESPACE).remove(context.getUniqueId(), QueryCounter.Counts.class);
+        if (counts != null) {
+            QueryCounter.stop(counts);
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == QueryCounter.Counts.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return extensionContext.getStore(NAMESPACE).get(extensionContext.getUniqueId(), QueryCounter.Counts.class);
+    }
+}
@@ -0,0 +1,101 @@
+package com.gwtt.jobblog.support;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// 구글 token / userinfo 엔드포인트를 흉내 내는 로컬 서버. 응답마다 latency 만큼 지연한다.
+public class StubGoogleOAuthServer implements AutoCloseable {
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Duration latency;
+    private final AtomicLong issuedTokens = new AtomicLong();
+
+    private StubGoogleOAuthServer(Duration latency) throws IOException {
+        this.latency = latency;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        this.server.setExecutor(executor);
+        this.server.createContext("/token", this::handleToken);
+        this.server.createContext("/userinfo", this::handleUserInfo);
+    }
+
+    public static StubGoogleOAuthServer start(Duration latency) throws IOException {
+        StubGoogleOAuthServer stub = new StubGoogleOAuthServer(latency);
+        stub.server.start();
+        return stub;
+    }
+
+    public String tokenUri() {
+        return baseUri() + "/token";
+    }
+
+    public String userInfoUri() {
+        return baseUri() + "/userinfo";
+    }
+
+    public long getIssuedTokens() {
+        return issuedTokens.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private String baseUri() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    private void handleToken(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, "{}");
+            return;
+        }
+
+        long token = issuedTokens.incrementAndGet();
+        respond(exchange, 200, """
+            {"access_token":"stub-%d","expires_in":"3599","scope":"openid email profile","token_type":"Bearer"}
+            """.formatted(token));
+    }
+
+    private void handleUserInfo(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer stub-")) {
+            respond(exchange, 401, "{}");
+            return;
+        }
+
+        String id = authorization.substring("Bearer stub-".length());
+        respond(exchange, 200, """
+            {"id":"%s","email":"user%s@example.com","name":"user%s"}
+            """.formatted(id, id, id));
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] bytes = body.strip().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.gwtt.jobblog.support;
+
+import java.util.UUID;
+
+import com.gwtt.jobblog.domain.Provider;
+import com.gwtt.jobblog.domain.User;
+import com.gwtt.jobblog.repository.UserRepository;
+
+// 테스트끼리 같은 H2 DB 를 공유하므로 email / providerId 가 겹치지 않는 사용자를 저장한다.
+public final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    public static User save(UserRepository userRepository) {
+        String key = UUID.randomUUID().toString();
+        return userRepository.save(User.builder()
+            .email(key + "@example.com")
+            .name("tester")
+            .provider(Provider.GOOGLE)
+            .providerId(key)
+            .build());
+    }
+}
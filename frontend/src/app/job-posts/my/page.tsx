@@ -4,15 +4,19 @@ import { useEffect, useState } from 'react'
 import { useRouter } from 'next/navigation'
 import axios from '@/lib/axios'
 import { getAccessToken } from '@/lib/auth'
-import { JobPostSimpleResponseDto } from '@/types/JobPost'
+import { CursorPageResponseDto, JobPostSimpleResponseDto } from '@/types/JobPost'
 import NavBar from '@/components/NavBar'
 import Button from '@/components/Button'
 import { getStatusColor, getStatusText } from '@/utils/jobStatus'
 
+const PAGE_SIZE = 20
+
 export default function MyJobPosts() {
   const router = useRouter()
   const [jobPosts, setJobPosts] = useState<JobPostSimpleResponseDto[]>([])
+  const [nextCursor, setNextCursor] = useState<string | null>(null)
   const [loading, setLoading] = useState(true)
+  const [loadingMore, setLoadingMore] = useState(false)
   const [deletingId, setDeletingId] = useState<number | null>(null)
 
   useEffect(() => {
@@ -24,13 +28,15 @@ export default function MyJobPosts() {
           return
         }
 
-        const response = await axios.get('/job-posts/my', {
+        const response = await axios.get<CursorPageResponseDto<JobPostSimpleResponseDto>>('/job-posts/my', {
+          params: { limit: PAGE_SIZE },
           headers: {
             'Authorization': `Bearer ${accessToken}`
           }
         })
 
-        setJobPosts(response.data)
+        setJobPosts(response.data.items)
+        setNextCursor(response.data.nextCursor)
       } catch (error) {
         console.error('내 공고 목록 조회 실패:', error)
         alert('공고 목록을 불러오는데 실패했습니다.')
@@ -42,6 +48,36 @@ export default function MyJobPosts() {
     fetchMyJobPosts()
   }, [router])
 
+  const handleLoadMore = async () => {
+    if (!nextCursor) {
+      return
+    }
+
+    setLoadingMore(true)
+    try {
+      const accessToken = getAccessToken()
+      if (!accessToken) {
+        router.push('/')
+        return
+      }
+
+      const response = await axios.get<CursorPageResponseDto<JobPostSimpleResponseDto>>('/job-posts/my', {
+        params: { cursor: nextCursor, limit: PAGE_SIZE },
+        headers: {
+          'Authorization': `Bearer ${accessToken}`
+        }
+      })
+
+      setJobPosts(prev => [...prev, ...response.data.items])
+      setNextCursor(response.data.nextCursor)
+    } catch (error) {
+      console.error('내 공고 목록 조회 실패:', error)
+      alert('공고 목록을 불러오는데 실패했습니다.')
+    } finally {
+      setLoadingMore(false)
+    }
+  }
+
   const handleDelete = async (jobPostId: number) => {
     if (!confirm('정말로 이 공고를 삭제하시겠습니까?')) {
       return
@@ -177,6 +213,19 @@ export default function MyJobPosts() {
               ))}
             </div>
           )}
+
+          {nextCursor && (
+            <div className="mt-8 flex justify-center">
+              <Button
+                onClick={handleLoadMore}
+                disabled={loadingMore}
+                variant="info"
+                size="lg"
+              >
+                {loadingMore ? '불러오는 중...' : '더 보기'}
+              </Button>
+            </div>
+          )}
         </div>
       </div>
     </>
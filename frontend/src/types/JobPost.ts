@@ -38,3 +38,8 @@ export interface JobPostSimpleResponseDto {
   updatedAt: string
 }
 
+export interface CursorPageResponseDto<T> {
+  items: T[]
+  nextCursor: string | null
+  hasNext: boolean
+}